@@ -18,7 +18,6 @@ package org.springblade.auth.config;
 
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
-import org.springblade.auth.constant.AuthConstant;
 import org.springblade.auth.granter.BladeTokenGranter;
 import org.springblade.auth.props.AuthProperties;
 import org.springblade.auth.service.BladeClientDetailsServiceImpl;
@@ -32,10 +31,9 @@ import org.springframework.security.oauth2.config.annotation.web.configuration.A
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerEndpointsConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configurers.AuthorizationServerSecurityConfigurer;
+import org.springframework.security.oauth2.provider.code.AuthorizationCodeServices;
 import org.springframework.security.oauth2.provider.token.TokenStore;
 
-import javax.sql.DataSource;
-
 /**
  * 认证服务器配置
  *
@@ -48,7 +46,7 @@ import javax.sql.DataSource;
 @EnableConfigurationProperties(AuthProperties.class)
 public class BladeAuthorizationServerConfiguration extends AuthorizationServerConfigurerAdapter {
 
-	private final DataSource dataSource;
+	private final BladeClientDetailsServiceImpl clientDetailsService;
 
 	private AuthenticationManager authenticationManager;
 
@@ -58,11 +56,14 @@ public class BladeAuthorizationServerConfiguration extends AuthorizationServerCo
 
 	private BladeTokenGranter tokenGranter;
 
+	private AuthorizationCodeServices authorizationCodeServices;
+
 	@Override
 	public void configure(AuthorizationServerEndpointsConfigurer endpoints) {
 		endpoints.tokenStore(tokenStore)
 			.authenticationManager(authenticationManager)
 			.userDetailsService(userDetailsService)
+			.authorizationCodeServices(authorizationCodeServices)
 			.tokenGranter(tokenGranter);
 	}
 
@@ -72,9 +73,6 @@ public class BladeAuthorizationServerConfiguration extends AuthorizationServerCo
 	@Override
 	@SneakyThrows
 	public void configure(ClientDetailsServiceConfigurer clients) {
-		BladeClientDetailsServiceImpl clientDetailsService = new BladeClientDetailsServiceImpl(dataSource);
-		clientDetailsService.setSelectClientDetailsSql(AuthConstant.DEFAULT_SELECT_STATEMENT);
-		clientDetailsService.setFindClientDetailsSql(AuthConstant.DEFAULT_FIND_STATEMENT);
 		clients.withClientDetails(clientDetailsService);
 	}
 
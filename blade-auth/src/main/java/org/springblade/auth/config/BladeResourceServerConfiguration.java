@@ -34,6 +34,11 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 @EnableResourceServer
 public class BladeResourceServerConfiguration extends ResourceServerConfigurerAdapter {
 
+	/**
+	 * 超级管理员角色别名
+	 */
+	private static final String ADMINISTRATOR = "administrator";
+
 	/**
 	 * 自定义登录成功处理器
 	 */
@@ -51,9 +56,11 @@ public class BladeResourceServerConfiguration extends ResourceServerConfigurerAd
 				"/actuator/**",
 				"/token/**",
 				"/oauth/captcha",
+				"/oauth/jwks",
 				"/mobile/**",
 				"/v2/api-docs",
 				"/v2/api-docs-ext").permitAll()
+			.antMatchers("/oauth/kick-out").hasAuthority(ADMINISTRATOR)
 			.anyRequest().authenticated().and()
 			.csrf().disable();
 	}
@@ -19,18 +19,20 @@ package org.springblade.auth.config;
 import lombok.AllArgsConstructor;
 import org.springblade.auth.granter.BladeTokenGranter;
 import org.springblade.auth.props.AuthProperties;
-import org.springblade.core.redis.cache.BladeRedisCache;
+import org.springblade.auth.service.BladeClientDetailsServiceImpl;
+import org.springblade.auth.support.CaptchaStore;
+import org.springblade.auth.support.RedisAuthorizationCodeServices;
 import org.springblade.system.user.feign.IUserClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.provider.code.AuthorizationCodeServices;
 import org.springframework.security.oauth2.provider.token.TokenEnhancer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 
-import javax.sql.DataSource;
-
 /**
  * 自定义TokenGranter配置类
  *
@@ -40,7 +42,7 @@ import javax.sql.DataSource;
 @AllArgsConstructor
 public class BladeTokenGranterConfiguration {
 
-	private final DataSource dataSource;
+	private final BladeClientDetailsServiceImpl clientDetailsService;
 
 	private AuthenticationManager authenticationManager;
 
@@ -56,11 +58,21 @@ public class BladeTokenGranterConfiguration {
 
 	private IUserClient userClient;
 
-	private BladeRedisCache redisCache;
+	private RedisConnectionFactory redisConnectionFactory;
+
+	private CaptchaStore captchaStore;
+
+	/**
+	 * 授权码存储，授权端点与TokenGranter共用，多节点下授权码签发与兑换可落在不同实例
+	 */
+	@Bean
+	public AuthorizationCodeServices authorizationCodeServices() {
+		return new RedisAuthorizationCodeServices(redisConnectionFactory, authProperties.getAuthorizationCodeExpire());
+	}
 
 	@Bean
 	public BladeTokenGranter bladeTokenGranter() {
-		return new BladeTokenGranter(dataSource, authenticationManager, userDetailsService, tokenStore, jwtTokenEnhancer, jwtAccessTokenConverter, authProperties, userClient, redisCache);
+		return new BladeTokenGranter(clientDetailsService, authenticationManager, userDetailsService, tokenStore, jwtTokenEnhancer, jwtAccessTokenConverter, authProperties, userClient, authorizationCodeServices(), captchaStore);
 	}
 
 }
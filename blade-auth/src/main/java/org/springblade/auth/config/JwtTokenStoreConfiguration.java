@@ -16,7 +16,12 @@
  */
 package org.springblade.auth.config;
 
+import org.springblade.auth.support.BladeJwtAccessTokenConverter;
+import org.springblade.auth.support.BladeJwtKeys;
 import org.springblade.auth.support.BladeJwtTokenEnhancer;
+import org.springblade.auth.props.AuthProperties;
+import org.springblade.auth.support.BladeJwtTokenStore;
+import org.springblade.auth.support.TokenRevocationStore;
 import org.springblade.core.launch.constant.TokenConstant;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,7 +30,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.provider.token.TokenEnhancer;
 import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
-import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 
 /**
  * JwtTokenStore
@@ -37,18 +41,21 @@ import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 public class JwtTokenStoreConfiguration {
 
 	/**
-	 * 使用jwtTokenStore存储token
+	 * 使用jwtTokenStore存储token，刷新时校验吊销记录
 	 */
 	@Bean
-	public TokenStore jwtTokenStore() {
-		return new JwtTokenStore(jwtAccessTokenConverter());
+	public TokenStore jwtTokenStore(JwtAccessTokenConverter jwtAccessTokenConverter, TokenRevocationStore tokenRevocationStore) {
+		return new BladeJwtTokenStore(jwtAccessTokenConverter, tokenRevocationStore);
 	}
 
 	/**
-	 * 用于生成jwt
+	 * 用于生成jwt，非对称模式下使用私钥签名
 	 */
 	@Bean
-	public JwtAccessTokenConverter jwtAccessTokenConverter() {
+	public JwtAccessTokenConverter jwtAccessTokenConverter(BladeJwtKeys bladeJwtKeys) {
+		if (bladeJwtKeys.isAsymmetric()) {
+			return new BladeJwtAccessTokenConverter(bladeJwtKeys);
+		}
 		JwtAccessTokenConverter accessTokenConverter = new JwtAccessTokenConverter();
 		accessTokenConverter.setSigningKey(TokenConstant.SIGN_KEY);
 		return accessTokenConverter;
@@ -59,8 +66,8 @@ public class JwtTokenStoreConfiguration {
 	 */
 	@Bean
 	@ConditionalOnMissingBean(name = "jwtTokenEnhancer")
-	public TokenEnhancer jwtTokenEnhancer() {
-		return new BladeJwtTokenEnhancer();
+	public TokenEnhancer jwtTokenEnhancer(AuthProperties authProperties) {
+		return new BladeJwtTokenEnhancer(authProperties.getCompactToken());
 	}
 
 }
@@ -18,6 +18,7 @@ package org.springblade.auth.config;
 
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
+import org.springblade.auth.props.AuthProperties;
 import org.springblade.auth.support.BladePasswordEncoderFactories;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @AllArgsConstructor
 public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
+	private AuthProperties authProperties;
+
 	@Bean
 	@Override
 	@SneakyThrows
@@ -44,7 +47,7 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return BladePasswordEncoderFactories.createDelegatingPasswordEncoder();
+		return BladePasswordEncoderFactories.createDelegatingPasswordEncoder(authProperties.getPassword());
 	}
 
 	@Override
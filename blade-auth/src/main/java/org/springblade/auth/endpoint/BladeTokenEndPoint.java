@@ -16,19 +16,25 @@
  */
 package org.springblade.auth.endpoint;
 
-import com.wf.captcha.SpecCaptcha;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springblade.common.cache.CacheNames;
-import org.springblade.core.redis.cache.BladeRedisCache;
+import org.springblade.auth.support.BladeJwtKeys;
+import org.springblade.auth.support.CaptchaStore;
+import org.springblade.auth.support.TokenRevocationStore;
+import org.springblade.auth.utils.TokenUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.support.Kv;
+import org.springblade.core.tool.utils.Func;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.authentication.OAuth2AuthenticationDetails;
+import org.springframework.security.oauth2.provider.token.TokenStore;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.Duration;
-import java.util.UUID;
+import java.util.Map;
 
 /**
  * BladeEndPoint
@@ -40,7 +46,13 @@ import java.util.UUID;
 @AllArgsConstructor
 public class BladeTokenEndPoint {
 
-	private BladeRedisCache redisCache;
+	private CaptchaStore captchaStore;
+
+	private TokenRevocationStore tokenRevocationStore;
+
+	private TokenStore tokenStore;
+
+	private BladeJwtKeys bladeJwtKeys;
 
 	@GetMapping("/oauth/user-info")
 	public R<Authentication> currentUser(Authentication authentication) {
@@ -49,13 +61,48 @@ public class BladeTokenEndPoint {
 
 	@GetMapping("/oauth/captcha")
 	public Kv captcha() {
-		SpecCaptcha specCaptcha = new SpecCaptcha(130, 48, 5);
-		String verCode = specCaptcha.text().toLowerCase();
-		String key = UUID.randomUUID().toString();
-		// 存入redis并设置过期时间为30分钟
-		redisCache.setEx(CacheNames.CAPTCHA_KEY + key, verCode, Duration.ofMinutes(30));
+		// 从预生成池中取出验证码并存入redis
+		CaptchaStore.Captcha captcha = captchaStore.issue();
 		// 将key和base64返回给前端
-		return Kv.create().set("key", key).set("image", specCaptcha.toBase64());
+		return Kv.create().set("key", captcha.getKey()).set("image", captcha.getImage());
+	}
+
+	/**
+	 * 令牌验签公钥，对称签名模式下为空集合
+	 */
+	@GetMapping("/oauth/jwks")
+	public Map<String, Object> jwks() {
+		return bladeJwtKeys.jwkSet();
+	}
+
+	/**
+	 * 注销当前会话，同一次登录经刷新签发的令牌全部失效
+	 */
+	@PostMapping("/oauth/logout")
+	public R logout(Authentication authentication) {
+		if (authentication.getDetails() instanceof OAuth2AuthenticationDetails) {
+			String tokenValue = ((OAuth2AuthenticationDetails) authentication.getDetails()).getTokenValue();
+			OAuth2AccessToken accessToken = tokenStore.readAccessToken(tokenValue);
+			if (accessToken != null) {
+				Map<String, Object> info = accessToken.getAdditionalInformation();
+				String sessionId = Func.toStr(info.get(TokenUtil.SESSION_ID), null);
+				if (Func.isNotEmpty(sessionId)) {
+					tokenRevocationStore.revokeSession(sessionId);
+				} else {
+					tokenRevocationStore.revokeToken(Func.toStr(info.get(TokenUtil.TOKEN_ID), null));
+				}
+			}
+		}
+		return R.success("注销成功");
+	}
+
+	/**
+	 * 强制用户下线，该用户此前签发的令牌全部失效
+	 */
+	@PostMapping("/oauth/kick-out")
+	public R kickOut(@RequestParam String userId) {
+		tokenRevocationStore.revokeUser(userId);
+		return R.success("操作成功");
 	}
 
 }
@@ -16,10 +16,9 @@
  */
 package org.springblade.auth.granter;
 
-import org.springblade.auth.constant.AuthConstant;
 import org.springblade.auth.props.AuthProperties;
-import org.springblade.auth.service.BladeClientDetailsServiceImpl;
-import org.springblade.core.redis.cache.BladeRedisCache;
+import org.springblade.auth.support.BladeTokenInfoEnhancer;
+import org.springblade.auth.support.CaptchaStore;
 import org.springblade.system.user.feign.IUserClient;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
@@ -30,7 +29,6 @@ import org.springframework.security.oauth2.provider.*;
 import org.springframework.security.oauth2.provider.client.ClientCredentialsTokenGranter;
 import org.springframework.security.oauth2.provider.code.AuthorizationCodeServices;
 import org.springframework.security.oauth2.provider.code.AuthorizationCodeTokenGranter;
-import org.springframework.security.oauth2.provider.code.InMemoryAuthorizationCodeServices;
 import org.springframework.security.oauth2.provider.implicit.ImplicitTokenGranter;
 import org.springframework.security.oauth2.provider.password.ResourceOwnerPasswordTokenGranter;
 import org.springframework.security.oauth2.provider.refresh.RefreshTokenGranter;
@@ -39,7 +37,6 @@ import org.springframework.security.oauth2.provider.token.*;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationProvider;
 
-import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -51,7 +48,7 @@ import java.util.List;
  */
 public class BladeTokenGranter implements TokenGranter {
 
-	private final DataSource dataSource;
+	private final ClientDetailsService clientDetailsService;
 
 	private AuthenticationManager authenticationManager;
 
@@ -63,16 +60,18 @@ public class BladeTokenGranter implements TokenGranter {
 
 	private JwtAccessTokenConverter jwtAccessTokenConverter;
 
-	private CompositeTokenGranter delegate;
+	private final CompositeTokenGranter delegate;
 
 	private AuthProperties authProperties;
 
 	private IUserClient userClient;
 
-	private BladeRedisCache redisCache;
+	private final AuthorizationCodeServices authorizationCodeServices;
 
-	public BladeTokenGranter(DataSource dataSource, AuthenticationManager authenticationManager, UserDetailsService userDetailsService, TokenStore tokenStore, TokenEnhancer jwtTokenEnhancer, JwtAccessTokenConverter jwtAccessTokenConverter, AuthProperties authProperties, IUserClient userClient, BladeRedisCache redisCache) {
-		this.dataSource = dataSource;
+	private final CaptchaStore captchaStore;
+
+	public BladeTokenGranter(ClientDetailsService clientDetailsService, AuthenticationManager authenticationManager, UserDetailsService userDetailsService, TokenStore tokenStore, TokenEnhancer jwtTokenEnhancer, JwtAccessTokenConverter jwtAccessTokenConverter, AuthProperties authProperties, IUserClient userClient, AuthorizationCodeServices authorizationCodeServices, CaptchaStore captchaStore) {
+		this.clientDetailsService = clientDetailsService;
 		this.authenticationManager = authenticationManager;
 		this.userDetailsService = userDetailsService;
 		this.tokenStore = tokenStore;
@@ -80,24 +79,22 @@ public class BladeTokenGranter implements TokenGranter {
 		this.jwtAccessTokenConverter = jwtAccessTokenConverter;
 		this.userClient = userClient;
 		this.authProperties = authProperties;
-		this.redisCache = redisCache;
+		this.authorizationCodeServices = authorizationCodeServices;
+		this.captchaStore = captchaStore;
+		this.delegate = new CompositeTokenGranter(getDefaultTokenGranters());
 	}
 
 	@Override
 	public OAuth2AccessToken grant(String grantType, TokenRequest tokenRequest) {
-		if (delegate == null) {
-			delegate = new CompositeTokenGranter(getDefaultTokenGranters());
-		}
 		return delegate.grant(grantType, tokenRequest);
 	}
 
 	/**
-	 * 自定义授权模式
+	 * 自定义授权模式，所有Granter共用同一个客户端信息服务、令牌服务与请求工厂
 	 */
 	private List<TokenGranter> getDefaultTokenGranters() {
-		ClientDetailsService clientDetails = clientDetailsService();
+		ClientDetailsService clientDetails = clientDetailsService;
 		AuthorizationServerTokenServices tokenServices = tokenServices();
-		AuthorizationCodeServices authorizationCodeServices = authorizationCodeServices();
 		OAuth2RequestFactory requestFactory = requestFactory();
 
 		List<TokenGranter> tokenGranters = new ArrayList<>();
@@ -111,24 +108,13 @@ public class BladeTokenGranter implements TokenGranter {
 		}
 
 		// 自定义Granter
-		tokenGranters.add(new CaptchaTokenGranter(authenticationManager, tokenServices, clientDetails, requestFactory, redisCache));
+		tokenGranters.add(new CaptchaTokenGranter(authenticationManager, tokenServices, clientDetails, requestFactory, captchaStore));
 
 		return tokenGranters;
 	}
 
-	private ClientDetailsService clientDetailsService() {
-		BladeClientDetailsServiceImpl clientDetailsService = new BladeClientDetailsServiceImpl(dataSource);
-		clientDetailsService.setSelectClientDetailsSql(AuthConstant.DEFAULT_SELECT_STATEMENT);
-		clientDetailsService.setFindClientDetailsSql(AuthConstant.DEFAULT_FIND_STATEMENT);
-		return clientDetailsService;
-	}
-
-	private AuthorizationCodeServices authorizationCodeServices() {
-		return new InMemoryAuthorizationCodeServices();
-	}
-
 	private OAuth2RequestFactory requestFactory() {
-		return new DefaultOAuth2RequestFactory(clientDetailsService());
+		return new DefaultOAuth2RequestFactory(clientDetailsService);
 	}
 
 	private DefaultTokenServices tokenServices() {
@@ -139,9 +125,13 @@ public class BladeTokenGranter implements TokenGranter {
 		List<TokenEnhancer> enhancerList = new ArrayList<>();
 		enhancerList.add(jwtTokenEnhancer);
 		enhancerList.add(jwtAccessTokenConverter);
+		if (authProperties.getCompactToken()) {
+			// 精简令牌的展示字段只写入响应体
+			enhancerList.add(new BladeTokenInfoEnhancer());
+		}
 		tokenEnhancerChain.setTokenEnhancers(enhancerList);
 		defaultTokenServices.setTokenEnhancer(tokenEnhancerChain);
-		defaultTokenServices.setClientDetailsService(clientDetailsService());
+		defaultTokenServices.setClientDetailsService(clientDetailsService);
 		addUserDetailsService(defaultTokenServices, userDetailsService);
 		return defaultTokenServices;
 	}
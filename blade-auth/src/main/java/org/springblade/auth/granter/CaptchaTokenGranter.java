@@ -1,8 +1,7 @@
 package org.springblade.auth.granter;
 
+import org.springblade.auth.support.CaptchaStore;
 import org.springblade.auth.utils.TokenUtil;
-import org.springblade.common.cache.CacheNames;
-import org.springblade.core.redis.cache.BladeRedisCache;
 import org.springblade.core.tool.utils.StringUtil;
 import org.springblade.core.tool.utils.WebUtil;
 import org.springframework.security.authentication.*;
@@ -28,12 +27,12 @@ public class CaptchaTokenGranter extends AbstractTokenGranter {
 
 	private final AuthenticationManager authenticationManager;
 
-	private BladeRedisCache redisCache;
+	private CaptchaStore captchaStore;
 
 	public CaptchaTokenGranter(AuthenticationManager authenticationManager,
-							   AuthorizationServerTokenServices tokenServices, ClientDetailsService clientDetailsService, OAuth2RequestFactory requestFactory, BladeRedisCache redisCache) {
+							   AuthorizationServerTokenServices tokenServices, ClientDetailsService clientDetailsService, OAuth2RequestFactory requestFactory, CaptchaStore captchaStore) {
 		this(authenticationManager, tokenServices, clientDetailsService, requestFactory, GRANT_TYPE);
-		this.redisCache = redisCache;
+		this.captchaStore = captchaStore;
 	}
 
 	protected CaptchaTokenGranter(AuthenticationManager authenticationManager, AuthorizationServerTokenServices tokenServices,
@@ -48,8 +47,8 @@ public class CaptchaTokenGranter extends AbstractTokenGranter {
 		// 增加验证码判断
 		String key = request.getHeader(TokenUtil.CAPTCHA_HEADER_KEY);
 		String code = request.getHeader(TokenUtil.CAPTCHA_HEADER_CODE);
-		// 获取验证码
-		String redisCode = redisCache.get(CacheNames.CAPTCHA_KEY + key);
+		// 取出验证码，取出即失效，校验失败也不能重试
+		String redisCode = captchaStore.consume(key);
 		// 判断验证码
 		if (code == null || !StringUtil.equalsIgnoreCase(redisCode, code)) {
 			throw new UserDeniedAuthorizationException(TokenUtil.CAPTCHA_NOT_CORRECT);
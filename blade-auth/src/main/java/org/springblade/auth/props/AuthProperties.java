@@ -20,6 +20,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * AuthProperties
  *
@@ -30,4 +34,145 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 @ConfigurationProperties(prefix = "blade.oauth")
 public class AuthProperties {
 
+	/**
+	 * 客户端信息快照的刷新间隔，小于等于0时不刷新
+	 */
+	private Duration clientRefreshInterval = Duration.ofSeconds(30);
+
+	/**
+	 * 本地缓存的租户数量
+	 */
+	private Long tenantCacheSize = 1000L;
+
+	/**
+	 * 租户信息本地缓存时长
+	 */
+	private Duration tenantCacheExpire = Duration.ofMinutes(5);
+
+	/**
+	 * 授权码有效期
+	 */
+	private Duration authorizationCodeExpire = Duration.ofMinutes(5);
+
+	/**
+	 * 验证码有效期
+	 */
+	private Duration captchaExpire = Duration.ofMinutes(3);
+
+	/**
+	 * 预生成验证码图片的数量
+	 */
+	private Integer captchaPoolSize = 32;
+
+	/**
+	 * 精简令牌，jwt中只保留ID类字段、账号与角色别名，昵称、姓名、头像等展示类字段只出现在令牌响应体中
+	 */
+	private Boolean compactToken = false;
+
+	/**
+	 * 吊销记录保留时间，不应短于刷新令牌有效期
+	 */
+	private Duration revokeRetention = Duration.ofDays(7);
+
+	/**
+	 * 密码加密配置
+	 */
+	private Password password = new Password();
+
+	/**
+	 * 令牌签名配置
+	 */
+	private Jwt jwt = new Jwt();
+
+	@Data
+	public static class Password {
+
+		/**
+		 * 新密码采用的加密方式，可选 blade、bcrypt、scrypt，设置为 bcrypt、scrypt 后，{blade} 密码会在登录成功时自动升级
+		 */
+		private String encodingId = "blade";
+
+		/**
+		 * bcrypt 强度，取值 4 ~ 31
+		 */
+		private Integer bcryptStrength = 10;
+
+		/**
+		 * pbkdf2 迭代次数，仅用于校验已有的 {pbkdf2} 密码
+		 */
+		private Integer pbkdf2Iterations = 185000;
+
+		/**
+		 * scrypt CPU 开销
+		 */
+		private Integer scryptCpuCost = 16384;
+
+		/**
+		 * scrypt 内存开销
+		 */
+		private Integer scryptMemoryCost = 8;
+
+		/**
+		 * scrypt 并行度
+		 */
+		private Integer scryptParallelization = 1;
+
+		/**
+		 * 同时进行慢速哈希计算的最大数量，默认为CPU核数
+		 */
+		private Integer maxConcurrency = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * 等待慢速哈希计算许可的最长时间
+		 */
+		private Duration acquireTimeout = Duration.ofSeconds(3);
+
+	}
+
+	@Data
+	public static class Jwt {
+
+		/**
+		 * 签名算法，HS256 使用共享密钥，RS256、ES256 使用私钥签名并通过 /oauth/jwks 公开公钥
+		 */
+		private String algorithm = "HS256";
+
+		/**
+		 * 密钥库位置，如 classpath:blade-jwt.p12，未配置时启动时临时生成密钥对(仅适用于单节点)
+		 */
+		private String keyStore;
+
+		/**
+		 * 密钥库类型
+		 */
+		private String keyStoreType = "PKCS12";
+
+		/**
+		 * 密钥库密码
+		 */
+		private String keyStorePassword;
+
+		/**
+		 * 当前签名密钥别名，同时作为kid
+		 */
+		private String keyAlias = "blade";
+
+		/**
+		 * 私钥密码，为空时使用密钥库密码
+		 */
+		private String keyPassword;
+
+		/**
+		 * 仍需公开公钥的其他别名，轮换时先加入新密钥，待各节点刷新后再切换签名密钥
+		 */
+		private List<String> publishedAliases = new ArrayList<>();
+
+		/**
+		 * 下游服务是否已按 /oauth/jwks 公钥验签。blade-core-secure 仍使用 HS256 共享密钥验签，
+		 * 未全部切换前启用 RS256、ES256 会导致下游服务鉴权全部失败，因此需显式确认后才允许启用
+		 */
+		private Boolean downstreamJwksVerified = Boolean.FALSE;
+
+	}
+
 }
@@ -17,22 +17,89 @@
 package org.springblade.auth.service;
 
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.auth.constant.AuthConstant;
+import org.springblade.auth.props.AuthProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.security.oauth2.provider.ClientDetails;
 import org.springframework.security.oauth2.provider.client.JdbcClientDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 客户端信息
  *
+ * <p>
+ * 启动时将 blade_client 全量加载为内存快照，之后按 blade.oauth.client-refresh-interval 定时重新加载，
+ * 内容发生变化时整体替换。快照未命中的客户端回退到数据库查询并补充进快照。
+ * </p>
+ *
  * @author Chill
  */
+@Slf4j
 @Component
-public class BladeClientDetailsServiceImpl extends JdbcClientDetailsService {
+public class BladeClientDetailsServiceImpl extends JdbcClientDetailsService implements InitializingBean, DisposableBean {
+
+	private final AuthProperties authProperties;
+
+	private volatile Map<String, ClientDetails> snapshot = Collections.emptyMap();
+
+	private ScheduledExecutorService scheduler;
 
-	public BladeClientDetailsServiceImpl(DataSource dataSource) {
+	public BladeClientDetailsServiceImpl(DataSource dataSource, AuthProperties authProperties) {
 		super(dataSource);
+		this.authProperties = authProperties;
+		setSelectClientDetailsSql(AuthConstant.DEFAULT_SELECT_STATEMENT);
+		setFindClientDetailsSql(AuthConstant.DEFAULT_FIND_STATEMENT);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		refresh();
+		long interval = authProperties.getClientRefreshInterval().toMillis();
+		if (interval > 0) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "blade-client-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * 重新加载客户端快照，内容无变化时保持原快照
+	 */
+	public void refresh() {
+		try {
+			List<ClientDetails> clients = listClientDetails();
+			Map<String, ClientDetails> latest = new HashMap<>(clients.size() * 2);
+			clients.forEach(client -> latest.put(client.getClientId(), client));
+			synchronized (this) {
+				if (!latest.equals(snapshot)) {
+					snapshot = Collections.unmodifiableMap(latest);
+					log.info("client details snapshot reloaded, {} clients", latest.size());
+				}
+			}
+		} catch (Exception e) {
+			log.warn("client details snapshot reload failed, keep the previous snapshot", e);
+		}
 	}
 
 	/**
@@ -43,6 +110,16 @@ public class BladeClientDetailsServiceImpl extends JdbcClientDetailsService {
 	@Override
 	@SneakyThrows
 	public ClientDetails loadClientByClientId(String clientId) {
-		return super.loadClientByClientId(clientId);
+		ClientDetails clientDetails = snapshot.get(clientId);
+		if (clientDetails != null) {
+			return clientDetails;
+		}
+		clientDetails = super.loadClientByClientId(clientId);
+		synchronized (this) {
+			Map<String, ClientDetails> latest = new HashMap<>(snapshot);
+			latest.put(clientId, clientDetails);
+			snapshot = Collections.unmodifiableMap(latest);
+		}
+		return clientDetails;
 	}
 }
@@ -16,23 +16,31 @@
  */
 package org.springblade.auth.service;
 
-import lombok.AllArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springblade.auth.constant.AuthConstant;
 import org.springblade.auth.enums.BladeUserEnum;
+import org.springblade.auth.props.AuthProperties;
 import org.springblade.auth.utils.TokenUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.utils.DateUtil;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.core.tool.utils.StringUtil;
 import org.springblade.core.tool.utils.WebUtil;
-import org.springblade.system.entity.Tenant;
-import org.springblade.system.feign.ISysClient;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.entity.UserInfo;
 import org.springblade.system.user.feign.IUserClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.common.exceptions.UserDeniedAuthorizationException;
@@ -40,22 +48,62 @@ import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 用户信息
  *
+ * <p>
+ * 租户过期时间缓存于本地，命中时登录只需一次远程调用；未命中时由 userAuthInfo 一并返回租户状态后回填。
+ * 各环节耗时记录于 blade.auth.login 直方图，按 hop 区分。
+ * 密码加密方式配置为更强的算法时，{blade} 密码在登录成功后自动升级。
+ * </p>
+ *
  * @author Chill
  */
+@Slf4j
 @Service
-@AllArgsConstructor
-public class BladeUserDetailsServiceImpl implements UserDetailsService {
+public class BladeUserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+
+	/**
+	 * 监控指标名
+	 */
+	private static final String METRIC_NAME = "blade.auth.login";
+
+	private final IUserClient userClient;
+	private final Cache<String, Optional<Date>> tenantCache;
+	private final Timer tenantTimer;
+	private final Timer userInfoTimer;
+	private final Timer totalTimer;
 
-	private IUserClient userClient;
-	private ISysClient sysClient;
+	public BladeUserDetailsServiceImpl(IUserClient userClient, AuthProperties authProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.userClient = userClient;
+		this.tenantCache = Caffeine.newBuilder()
+			.maximumSize(authProperties.getTenantCacheSize())
+			.expireAfterWrite(authProperties.getTenantCacheExpire().toMillis(), TimeUnit.MILLISECONDS)
+			.build();
+		MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+		this.tenantTimer = loginTimer(registry, "tenant");
+		this.userInfoTimer = loginTimer(registry, "user-info");
+		this.totalTimer = loginTimer(registry, "total");
+	}
+
+	private static Timer loginTimer(MeterRegistry registry, String hop) {
+		return Timer.builder(METRIC_NAME)
+			.description("login latency per hop")
+			.tag("hop", hop)
+			.publishPercentileHistogram()
+			.register(registry);
+	}
 
 	@Override
 	@SneakyThrows
 	public BladeUserDetails loadUserByUsername(String username) {
+		return totalTimer.record(() -> loadUser(username));
+	}
+
+	private BladeUserDetails loadUser(String username) {
 		HttpServletRequest request = WebUtil.getRequest();
 		// 获取租户ID
 		String headerTenant = request.getHeader(TokenUtil.TENANT_HEADER_KEY);
@@ -65,15 +113,10 @@ public class BladeUserDetailsServiceImpl implements UserDetailsService {
 		}
 		String tenantId = StringUtils.isBlank(headerTenant) ? paramTenant : headerTenant;
 
-		// 获取租户信息
-		R<Tenant> tenant = sysClient.getTenant(tenantId);
-		if (tenant.isSuccess()) {
-			Date expireTime = tenant.getData().getExpireTime();
-			if (expireTime != null && expireTime.before(DateUtil.now())) {
-				throw new UserDeniedAuthorizationException(TokenUtil.USER_HAS_NO_TENANT_PERMISSION);
-			}
-		} else {
-			throw new UserDeniedAuthorizationException(TokenUtil.USER_HAS_NO_TENANT);
+		// 获取租户信息，命中本地缓存时提前校验
+		Optional<Date> tenantExpireTime = tenantTimer.record(() -> tenantCache.getIfPresent(tenantId));
+		if (tenantExpireTime != null) {
+			checkTenantExpireTime(tenantExpireTime.orElse(null));
 		}
 
 		// 获取用户类型
@@ -83,16 +126,23 @@ public class BladeUserDetailsServiceImpl implements UserDetailsService {
 		R<UserInfo> result;
 		// 根据不同用户类型调用对应的接口返回数据，用户可自行拓展
 		if (userType.equals(BladeUserEnum.WEB.getName())) {
-			result = userClient.userInfo(tenantId, username);
+			result = userInfoTimer.record(() -> userClient.userAuthInfo(tenantId, username));
 		} else if (userType.equals(BladeUserEnum.APP.getName())) {
-			result = userClient.userInfo(tenantId, username);
+			result = userInfoTimer.record(() -> userClient.userAuthInfo(tenantId, username));
 		} else {
-			result = userClient.userInfo(tenantId, username);
+			result = userInfoTimer.record(() -> userClient.userAuthInfo(tenantId, username));
 		}
 
 		// 判断返回信息
 		if (result.isSuccess()) {
 			UserInfo userInfo = result.getData();
+			if (tenantExpireTime == null) {
+				if (!Boolean.TRUE.equals(userInfo.getTenantExist())) {
+					throw new UserDeniedAuthorizationException(TokenUtil.USER_HAS_NO_TENANT);
+				}
+				tenantCache.put(tenantId, Optional.ofNullable(userInfo.getTenantExpireTime()));
+				checkTenantExpireTime(userInfo.getTenantExpireTime());
+			}
 			User user = userInfo.getUser();
 			if (user == null || user.getId() == null) {
 				throw new UsernameNotFoundException(TokenUtil.USER_NOT_FOUND);
@@ -102,11 +152,62 @@ public class BladeUserDetailsServiceImpl implements UserDetailsService {
 			}
 			return new BladeUserDetails(user.getId(),
 				user.getTenantId(), user.getName(), user.getRealName(), user.getDeptId(), user.getRoleId(), Func.join(result.getData().getRoles()), Func.toStr(user.getAvatar(), TokenUtil.DEFAULT_AVATAR),
-				username, AuthConstant.ENCRYPT + user.getPassword(), true, true, true, true,
+				username, encodedPassword(user.getPassword()), true, true, true, true,
 				AuthorityUtils.commaSeparatedStringToAuthorityList(Func.join(result.getData().getRoles())));
 		} else {
 			throw new UsernameNotFoundException(result.getMsg());
 		}
 	}
 
+	/**
+	 * 登录成功且密码加密方式需要升级时回调，升级失败不影响本次登录
+	 *
+	 * @param userDetails 用户信息
+	 * @param newPassword 按新加密方式加密后的密码(含前缀)
+	 * @return UserDetails
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+		if (!(userDetails instanceof BladeUserDetails)) {
+			return userDetails;
+		}
+		BladeUserDetails user = (BladeUserDetails) userDetails;
+		try {
+			R<Boolean> result = userClient.upgradePassword(user.getUserId(), user.getPassword(), newPassword);
+			if (!result.isSuccess() || !Boolean.TRUE.equals(result.getData())) {
+				log.warn("password encoding upgrade rejected, userId: {}", user.getUserId());
+				return userDetails;
+			}
+		} catch (Exception e) {
+			log.warn("password encoding upgrade failed, userId: {}", user.getUserId(), e);
+			return userDetails;
+		}
+		return new BladeUserDetails(user.getUserId(), user.getTenantId(), user.getName(), user.getRealName(), user.getDeptId(), user.getRoleId(), user.getRoleName(), user.getAvatar(),
+			user.getUsername(), newPassword, user.isEnabled(), user.isAccountNonExpired(), user.isCredentialsNonExpired(), user.isAccountNonLocked(), user.getAuthorities());
+	}
+
+	/**
+	 * 数据库中的旧密码不带加密方式前缀，默认为 {blade}
+	 *
+	 * @param password 数据库中的密码
+	 * @return 带加密方式前缀的密码
+	 */
+	private static String encodedPassword(String password) {
+		if (password != null && password.startsWith(StringPool.LEFT_BRACE)) {
+			return password;
+		}
+		return AuthConstant.ENCRYPT + password;
+	}
+
+	/**
+	 * 校验租户是否过期
+	 *
+	 * @param expireTime 过期时间
+	 */
+	private void checkTenantExpireTime(Date expireTime) {
+		if (expireTime != null && expireTime.before(DateUtil.now())) {
+			throw new UserDeniedAuthorizationException(TokenUtil.USER_HAS_NO_TENANT_PERMISSION);
+		}
+	}
+
 }
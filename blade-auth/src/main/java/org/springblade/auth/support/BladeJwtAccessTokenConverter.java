@@ -0,0 +1,187 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import lombok.SneakyThrows;
+import org.springblade.common.utils.JwkUtil;
+import org.springframework.security.jwt.crypto.sign.InvalidSignatureException;
+import org.springframework.security.jwt.crypto.sign.SignatureVerifier;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.util.JsonParser;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 非对称签名的jwt转换器
+ *
+ * <p>
+ * 使用 RS256 或 ES256 私钥签名，头部携带kid，验证方按kid从 /oauth/jwks 获取公钥在本地验签，无需共享密钥。
+ * ES256 签名按 JWS 规范输出 R||S 定长格式，而非 JCA 默认的 DER 编码。
+ * </p>
+ *
+ * @author Chill
+ */
+public class BladeJwtAccessTokenConverter extends JwtAccessTokenConverter {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+	private static final int ES256_PART_SIZE = 32;
+
+	private final BladeJwtKeys keys;
+	private final JsonParser jsonParser = JsonParserFactory.create();
+	private final String encodedHeader;
+
+	public BladeJwtAccessTokenConverter(BladeJwtKeys keys) {
+		this.keys = keys;
+		Map<String, Object> header = new LinkedHashMap<>(4);
+		header.put(JwkUtil.ALGORITHM, keys.getAlgorithm());
+		header.put("typ", "JWT");
+		header.put(JwkUtil.KEY_ID, keys.getKeyId());
+		this.encodedHeader = encode(jsonParser.formatMap(header));
+		setVerifier(new KeyVerifier());
+	}
+
+	@Override
+	@SneakyThrows
+	protected String encode(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+		String content = jsonParser.formatMap(getAccessTokenConverter().convertAccessToken(accessToken, authentication));
+		String signingInput = encodedHeader + "." + encode(content);
+		Signature signature = Signature.getInstance(javaAlgorithm(keys.getAlgorithm()));
+		signature.initSign(keys.getSigningKey());
+		signature.update(signingInput.getBytes(StandardCharsets.UTF_8));
+		byte[] signed = signature.sign();
+		if (BladeJwtKeys.ES256.equals(keys.getAlgorithm())) {
+			signed = derToJose(signed);
+		}
+		return signingInput + "." + ENCODER.encodeToString(signed);
+	}
+
+	private static String encode(String value) {
+		return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String javaAlgorithm(String algorithm) {
+		return BladeJwtKeys.RS256.equals(algorithm) ? "SHA256withRSA" : "SHA256withECDSA";
+	}
+
+	/**
+	 * DER 编码的 ECDSA 签名转为 R||S
+	 */
+	private static byte[] derToJose(byte[] der) {
+		int offset = (der[1] & 0x80) != 0 ? 3 : 2;
+		int rLength = der[offset + 1];
+		byte[] r = Arrays.copyOfRange(der, offset + 2, offset + 2 + rLength);
+		offset = offset + 2 + rLength;
+		int sLength = der[offset + 1];
+		byte[] s = Arrays.copyOfRange(der, offset + 2, offset + 2 + sLength);
+		byte[] jose = new byte[ES256_PART_SIZE * 2];
+		copyUnsigned(r, jose, 0);
+		copyUnsigned(s, jose, ES256_PART_SIZE);
+		return jose;
+	}
+
+	/**
+	 * R||S 转为 DER 编码的 ECDSA 签名
+	 */
+	private static byte[] joseToDer(byte[] jose) {
+		if (jose.length != ES256_PART_SIZE * 2) {
+			throw new InvalidSignatureException("Invalid ES256 signature length");
+		}
+		byte[] r = toSigned(Arrays.copyOfRange(jose, 0, ES256_PART_SIZE));
+		byte[] s = toSigned(Arrays.copyOfRange(jose, ES256_PART_SIZE, jose.length));
+		int length = 2 + r.length + 2 + s.length;
+		byte[] der = new byte[2 + length];
+		int i = 0;
+		der[i++] = 0x30;
+		der[i++] = (byte) length;
+		der[i++] = 0x02;
+		der[i++] = (byte) r.length;
+		System.arraycopy(r, 0, der, i, r.length);
+		i += r.length;
+		der[i++] = 0x02;
+		der[i++] = (byte) s.length;
+		System.arraycopy(s, 0, der, i, s.length);
+		return der;
+	}
+
+	private static void copyUnsigned(byte[] value, byte[] target, int offset) {
+		int start = 0;
+		while (start < value.length - 1 && value[start] == 0) {
+			start++;
+		}
+		int length = value.length - start;
+		System.arraycopy(value, start, target, offset + ES256_PART_SIZE - length, length);
+	}
+
+	private static byte[] toSigned(byte[] value) {
+		int start = 0;
+		while (start < value.length - 1 && value[start] == 0) {
+			start++;
+		}
+		boolean negative = (value[start] & 0x80) != 0;
+		byte[] result = new byte[value.length - start + (negative ? 1 : 0)];
+		System.arraycopy(value, start, result, negative ? 1 : 0, value.length - start);
+		return result;
+	}
+
+	/**
+	 * 按头部kid选择公钥验签
+	 */
+	private class KeyVerifier implements SignatureVerifier {
+
+		@Override
+		public void verify(byte[] content, byte[] signed) {
+			String signingInput = new String(content, StandardCharsets.UTF_8);
+			int dot = signingInput.indexOf('.');
+			Map<String, Object> header = jsonParser.parseMap(new String(DECODER.decode(signingInput.substring(0, Math.max(dot, 0))), StandardCharsets.UTF_8));
+			if (!keys.getAlgorithm().equals(header.get(JwkUtil.ALGORITHM))) {
+				throw new InvalidSignatureException("Unexpected jwt algorithm: " + header.get(JwkUtil.ALGORITHM));
+			}
+			PublicKey publicKey = keys.getPublicKey((String) header.get(JwkUtil.KEY_ID));
+			if (publicKey == null) {
+				throw new InvalidSignatureException("Unknown jwt key: " + header.get(JwkUtil.KEY_ID));
+			}
+			try {
+				Signature signature = Signature.getInstance(javaAlgorithm(keys.getAlgorithm()));
+				signature.initVerify(publicKey);
+				signature.update(content);
+				byte[] expected = BladeJwtKeys.ES256.equals(keys.getAlgorithm()) ? joseToDer(signed) : signed;
+				if (!signature.verify(expected)) {
+					throw new InvalidSignatureException("Signature did not match content");
+				}
+			} catch (GeneralSecurityException e) {
+				throw new InvalidSignatureException("Signature verification failed: " + e.getMessage());
+			}
+		}
+
+		@Override
+		public String algorithm() {
+			return javaAlgorithm(keys.getAlgorithm());
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.auth.props.AuthProperties;
+import org.springblade.common.utils.JwkUtil;
+import org.springblade.core.tool.utils.Func;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.util.*;
+
+/**
+ * 令牌签名密钥
+ *
+ * <p>
+ * 非对称模式下持有当前签名私钥，以及需要公开的全部公钥(当前密钥与轮换中的密钥)，公钥以JWK形式通过 /oauth/jwks 发布。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class BladeJwtKeys {
+
+	public static final String HS256 = "HS256";
+	public static final String RS256 = "RS256";
+	public static final String ES256 = "ES256";
+
+	private final String algorithm;
+	private final String keyId;
+	private final PrivateKey signingKey;
+	private final Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+
+	public BladeJwtKeys(AuthProperties authProperties) {
+		AuthProperties.Jwt jwt = authProperties.getJwt();
+		this.algorithm = jwt.getAlgorithm().toUpperCase();
+		this.keyId = jwt.getKeyAlias();
+		if (!isAsymmetric()) {
+			this.signingKey = null;
+			return;
+		}
+		if (!RS256.equals(algorithm) && !ES256.equals(algorithm)) {
+			throw new IllegalArgumentException("Unsupported jwt algorithm: " + algorithm);
+		}
+		if (!Boolean.TRUE.equals(jwt.getDownstreamJwksVerified())) {
+			throw new IllegalStateException("blade.oauth.jwt.algorithm=" + algorithm + " requires every downstream service to verify tokens with /oauth/jwks, "
+				+ "blade-core-secure still verifies with the HS256 sign key. Set blade.oauth.jwt.downstream-jwks-verified=true once they do");
+		}
+		if (Func.isEmpty(jwt.getKeyStore())) {
+			log.warn("blade.oauth.jwt.key-store is not set, generating a temporary {} key pair, tokens will not survive a restart", algorithm);
+			KeyPair keyPair = generate(algorithm);
+			this.signingKey = keyPair.getPrivate();
+			this.publicKeys.put(keyId, keyPair.getPublic());
+			return;
+		}
+		String password = Func.isEmpty(jwt.getKeyPassword()) ? jwt.getKeyStorePassword() : jwt.getKeyPassword();
+		if (Func.isEmpty(password)) {
+			throw new IllegalArgumentException("blade.oauth.jwt.key-password or blade.oauth.jwt.key-store-password must be set to read the private key from " + jwt.getKeyStore());
+		}
+		KeyStore keyStore = load(jwt);
+		char[] keyPassword = password.toCharArray();
+		this.signingKey = privateKey(keyStore, keyId, keyPassword);
+		this.publicKeys.put(keyId, publicKey(keyStore, keyId));
+		for (String alias : jwt.getPublishedAliases()) {
+			publicKeys.putIfAbsent(alias, publicKey(keyStore, alias));
+		}
+		String keyAlgorithm = RS256.equals(algorithm) ? "RSA" : "EC";
+		publicKeys.forEach((kid, key) -> {
+			if (!keyAlgorithm.equals(key.getAlgorithm())) {
+				throw new IllegalArgumentException("Key " + kid + " is not a " + keyAlgorithm + " key");
+			}
+		});
+	}
+
+	/**
+	 * 是否为非对称签名
+	 */
+	public boolean isAsymmetric() {
+		return !HS256.equals(algorithm);
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public String getKeyId() {
+		return keyId;
+	}
+
+	public PrivateKey getSigningKey() {
+		return signingKey;
+	}
+
+	/**
+	 * 获取公钥
+	 *
+	 * @param kid 密钥ID
+	 * @return 公钥，不存在返回 null
+	 */
+	public PublicKey getPublicKey(String kid) {
+		return publicKeys.get(kid == null ? keyId : kid);
+	}
+
+	/**
+	 * JWK集合
+	 */
+	public Map<String, Object> jwkSet() {
+		List<Map<String, Object>> keys = new ArrayList<>(publicKeys.size());
+		publicKeys.forEach((kid, key) -> keys.add(JwkUtil.toJwk(kid, algorithm, key)));
+		return Collections.singletonMap(JwkUtil.KEYS, keys);
+	}
+
+	@SneakyThrows
+	private static KeyPair generate(String algorithm) {
+		if (RS256.equals(algorithm)) {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		}
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+
+	@SneakyThrows
+	private static KeyStore load(AuthProperties.Jwt jwt) {
+		KeyStore keyStore = KeyStore.getInstance(jwt.getKeyStoreType());
+		try (InputStream in = new DefaultResourceLoader().getResource(jwt.getKeyStore()).getInputStream()) {
+			keyStore.load(in, jwt.getKeyStorePassword() == null ? null : jwt.getKeyStorePassword().toCharArray());
+		}
+		return keyStore;
+	}
+
+	@SneakyThrows
+	private static PrivateKey privateKey(KeyStore keyStore, String alias, char[] password) {
+		Key key = keyStore.getKey(alias, password);
+		if (!(key instanceof PrivateKey)) {
+			throw new IllegalArgumentException("No private key for alias: " + alias);
+		}
+		return (PrivateKey) key;
+	}
+
+	@SneakyThrows
+	private static PublicKey publicKey(KeyStore keyStore, String alias) {
+		if (keyStore.getCertificate(alias) == null) {
+			throw new IllegalArgumentException("No certificate for alias: " + alias);
+		}
+		return keyStore.getCertificate(alias).getPublicKey();
+	}
+
+}
@@ -20,19 +20,41 @@ import org.springblade.auth.service.BladeUserDetails;
 import org.springblade.auth.utils.TokenUtil;
 import org.springblade.core.tool.utils.Func;
 import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.jwt.JwtHelper;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.TokenRequest;
 import org.springframework.security.oauth2.provider.token.TokenEnhancer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * jwt返回参数增强
  *
+ * <p>
+ * 精简模式下jwt只保留ID类字段、账号与角色别名(鉴权需要)，展示类字段由 {@link BladeTokenInfoEnhancer} 在签名之后写入响应体，
+ * 服务端需要时通过用户缓存按用户ID获取。账号仍保留在jwt中，SecureUtil.getUserName 及日志的 createBy 等依赖账号的调用不受影响。
+ * </p>
+ *
  * @author Chill
  */
 public class BladeJwtTokenEnhancer implements TokenEnhancer {
+
+	private static final String REFRESH_TOKEN = "refresh_token";
+
+	private final boolean compact;
+
+	public BladeJwtTokenEnhancer() {
+		this(false);
+	}
+
+	public BladeJwtTokenEnhancer(boolean compact) {
+		this.compact = compact;
+	}
+
 	@Override
 	public OAuth2AccessToken enhance(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
 		BladeUserDetails principal = (BladeUserDetails) authentication.getUserAuthentication().getPrincipal();
@@ -42,14 +64,38 @@ public class BladeJwtTokenEnhancer implements TokenEnhancer {
 		info.put(TokenUtil.DEPT_ID, Func.toStr(principal.getDeptId()));
 		info.put(TokenUtil.ROLE_ID, Func.toStr(principal.getRoleId()));
 		info.put(TokenUtil.TENANT_ID, principal.getTenantId());
+		info.put(TokenUtil.ROLE_NAME, principal.getRoleName());
 		info.put(TokenUtil.ACCOUNT, principal.getAccount());
 		info.put(TokenUtil.USER_NAME, principal.getUsername());
-		info.put(TokenUtil.NICK_NAME, principal.getName());
-		info.put(TokenUtil.REAL_NAME, principal.getRealName());
-		info.put(TokenUtil.ROLE_NAME, principal.getRoleName());
-		info.put(TokenUtil.AVATAR, principal.getAvatar());
-		info.put(TokenUtil.LICENSE, TokenUtil.LICENSE_NAME);
+		if (!compact) {
+			BladeTokenInfoEnhancer.putDisplayInfo(info, principal);
+		}
+		// 令牌ID、会话ID与签发时间，用于注销与强制下线
+		long now = System.currentTimeMillis();
+		info.put(TokenUtil.TOKEN_ID, UUID.randomUUID().toString());
+		info.put(TokenUtil.SESSION_ID, sessionId(authentication));
+		info.put(TokenUtil.ISSUED_AT, now / 1000L);
+		info.put(TokenUtil.ISSUED_AT_MILLIS, now);
 		((DefaultOAuth2AccessToken) accessToken).setAdditionalInformation(info);
 		return accessToken;
 	}
+
+	/**
+	 * 刷新令牌时沿用原刷新令牌中的会话ID，其余情况生成新的会话ID
+	 */
+	private static String sessionId(OAuth2Authentication authentication) {
+		TokenRequest refreshRequest = authentication.getOAuth2Request().getRefreshTokenRequest();
+		if (refreshRequest != null) {
+			String refreshToken = refreshRequest.getRequestParameters().get(REFRESH_TOKEN);
+			if (Func.isNotEmpty(refreshToken)) {
+				// 刷新令牌已由 BladeJwtTokenStore 校验签名与吊销状态，这里只读取会话ID
+				Map<String, Object> claims = JsonParserFactory.create().parseMap(JwtHelper.decode(refreshToken).getClaims());
+				String sessionId = Func.toStr(claims.get(TokenUtil.SESSION_ID), null);
+				if (Func.isNotEmpty(sessionId)) {
+					return sessionId;
+				}
+			}
+		}
+		return UUID.randomUUID().toString();
+	}
 }
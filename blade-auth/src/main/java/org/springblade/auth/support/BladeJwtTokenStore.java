@@ -0,0 +1,67 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.springblade.auth.utils.TokenUtil;
+import org.springblade.core.tool.utils.Func;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import java.util.Map;
+
+/**
+ * 支持吊销的JwtTokenStore
+ *
+ * <p>
+ * 访问令牌的吊销由网关在内存中判断；刷新令牌只在认证服务使用，刷新时直接查询吊销记录，
+ * 所属会话已注销或用户已被强制下线时拒绝刷新。会话ID在每次刷新时沿用，
+ * 注销后此前任何一次刷新得到的刷新令牌均不能再换取访问令牌。
+ * </p>
+ *
+ * @author Chill
+ */
+public class BladeJwtTokenStore extends JwtTokenStore {
+
+	private final JwtAccessTokenConverter jwtAccessTokenConverter;
+	private final TokenRevocationStore revocationStore;
+
+	public BladeJwtTokenStore(JwtAccessTokenConverter jwtAccessTokenConverter, TokenRevocationStore revocationStore) {
+		super(jwtAccessTokenConverter);
+		this.jwtAccessTokenConverter = jwtAccessTokenConverter;
+		this.revocationStore = revocationStore;
+	}
+
+	@Override
+	public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+		OAuth2RefreshToken refreshToken = super.readRefreshToken(tokenValue);
+		if (refreshToken == null) {
+			return null;
+		}
+		Map<String, Object> claims = jwtAccessTokenConverter.decode(tokenValue);
+		String sessionId = Func.toStr(claims.get(TokenUtil.SESSION_ID), null);
+		// 未携带会话ID的早期刷新令牌按对应的访问令牌ID判断
+		String accessTokenId = Func.toStr(claims.get(TokenUtil.ACCESS_TOKEN_ID), null);
+		String userId = Func.toStr(claims.get(TokenUtil.USER_ID), null);
+		Long issuedAt = TokenRevocationStore.issuedAtMillis(claims.get(TokenUtil.ISSUED_AT_MILLIS), claims.get(TokenUtil.ISSUED_AT));
+		if (revocationStore.isRevoked(sessionId, accessTokenId, userId, issuedAt)) {
+			return null;
+		}
+		return refreshToken;
+	}
+
+}
@@ -19,6 +19,9 @@ package org.springblade.auth.support;
 import org.springblade.core.tool.utils.DigestUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 /**
  * 自定义密码加密
  *
@@ -28,12 +31,18 @@ public class BladePasswordEncoder implements PasswordEncoder {
 
 	@Override
 	public String encode(CharSequence rawPassword) {
-		return DigestUtil.encrypt((String) rawPassword);
+		return DigestUtil.encrypt(rawPassword.toString());
 	}
 
 	@Override
 	public boolean matches(CharSequence rawPassword, String encodedPassword) {
-		return encodedPassword.equals(encode(rawPassword));
+		if (rawPassword == null || encodedPassword == null) {
+			return false;
+		}
+		// 常量时间比较，避免通过响应时间推测摘要
+		byte[] expected = encodedPassword.getBytes(StandardCharsets.UTF_8);
+		byte[] actual = encode(rawPassword.toString()).getBytes(StandardCharsets.UTF_8);
+		return MessageDigest.isEqual(expected, actual);
 	}
 
 }
@@ -15,14 +15,18 @@
  */
 package org.springblade.auth.support;
 
+import org.springblade.auth.props.AuthProperties;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 /**
  * 自定义密码工厂
@@ -32,6 +36,11 @@ import java.util.Map;
  */
 public class BladePasswordEncoderFactories {
 
+	/**
+	 * 可用于加密新密码的加密方式
+	 */
+	private static final List<String> ENCODING_IDS = Arrays.asList("blade", "bcrypt", "scrypt");
+
 	/**
 	 * Creates a {@link DelegatingPasswordEncoder} with default mappings. Additional
 	 * mappings may be added and the encoding will be updated to conform with best
@@ -49,15 +58,33 @@ public class BladePasswordEncoderFactories {
 	 * @return the {@link PasswordEncoder} to use
 	 */
 	public static PasswordEncoder createDelegatingPasswordEncoder() {
-		String encodingId = "blade";
+		return createDelegatingPasswordEncoder(new AuthProperties.Password());
+	}
+
+	/**
+	 * 按配置创建 {@link DelegatingPasswordEncoder}，慢速哈希的计算并发受
+	 * {@link AuthProperties.Password#getMaxConcurrency()} 限制。
+	 * 加密方式不为 blade 时，{@link DelegatingPasswordEncoder#upgradeEncoding(String)} 对旧密码返回 true，
+	 * 登录成功后由 UserDetailsPasswordService 升级。
+	 * 新密码只允许 blade、bcrypt、scrypt：后两者的参数编码在哈希值中，用户服务无需共享配置即可校验。
+	 *
+	 * @param password 密码加密配置
+	 * @return the {@link PasswordEncoder} to use
+	 */
+	public static PasswordEncoder createDelegatingPasswordEncoder(AuthProperties.Password password) {
+		if (!ENCODING_IDS.contains(password.getEncodingId())) {
+			throw new IllegalArgumentException("不支持的密码加密方式: " + password.getEncodingId());
+		}
+		Semaphore permits = new Semaphore(Math.max(1, password.getMaxConcurrency()));
+		long timeoutNanos = password.getAcquireTimeout().toNanos();
 		Map<String, PasswordEncoder> encoders = new HashMap<>(16);
-		encoders.put(encodingId, new BladePasswordEncoder());
-		encoders.put("bcrypt", new BCryptPasswordEncoder());
+		encoders.put("blade", new BladePasswordEncoder());
+		encoders.put("bcrypt", new BoundedPasswordEncoder(new BCryptPasswordEncoder(password.getBcryptStrength()), permits, timeoutNanos));
 		encoders.put("noop", BladeNoOpPasswordEncoder.getInstance());
-		encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
-		encoders.put("scrypt", new SCryptPasswordEncoder());
+		encoders.put("pbkdf2", new BoundedPasswordEncoder(new Pbkdf2PasswordEncoder("", password.getPbkdf2Iterations(), 256), permits, timeoutNanos));
+		encoders.put("scrypt", new BoundedPasswordEncoder(new SCryptPasswordEncoder(password.getScryptCpuCost(), password.getScryptMemoryCost(), password.getScryptParallelization(), 32, 64), permits, timeoutNanos));
 
-		return new DelegatingPasswordEncoder(encodingId, encoders);
+		return new DelegatingPasswordEncoder(password.getEncodingId(), encoders);
 	}
 
 	private BladePasswordEncoderFactories() {
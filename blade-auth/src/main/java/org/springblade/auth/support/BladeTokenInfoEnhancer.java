@@ -0,0 +1,62 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.springblade.auth.service.BladeUserDetails;
+import org.springblade.auth.utils.TokenUtil;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.TokenEnhancer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 令牌响应参数增强
+ *
+ * <p>
+ * 精简模式下位于jwt签名之后，只把展示类字段写入 /oauth/token 的响应体，不进入jwt，前端登录后的使用方式不变。
+ * </p>
+ *
+ * @author Chill
+ */
+public class BladeTokenInfoEnhancer implements TokenEnhancer {
+
+	@Override
+	public OAuth2AccessToken enhance(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+		BladeUserDetails principal = (BladeUserDetails) authentication.getUserAuthentication().getPrincipal();
+		Map<String, Object> info = new LinkedHashMap<>(accessToken.getAdditionalInformation());
+		putDisplayInfo(info, principal);
+		((DefaultOAuth2AccessToken) accessToken).setAdditionalInformation(info);
+		return accessToken;
+	}
+
+	/**
+	 * 写入展示类字段
+	 *
+	 * @param info      参数
+	 * @param principal 用户信息
+	 */
+	static void putDisplayInfo(Map<String, Object> info, BladeUserDetails principal) {
+		info.put(TokenUtil.NICK_NAME, principal.getName());
+		info.put(TokenUtil.REAL_NAME, principal.getRealName());
+		info.put(TokenUtil.AVATAR, principal.getAvatar());
+		info.put(TokenUtil.LICENSE, TokenUtil.LICENSE_NAME);
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流密码加密
+ *
+ * <p>
+ * bcrypt、pbkdf2、scrypt 等慢速哈希共用一组许可，同时计算的数量不超过许可数，
+ * 登录高峰时多余的请求在限定时间内排队，超时直接失败，避免慢速哈希占满 CPU 拖垮 Tomcat 线程。
+ * </p>
+ *
+ * @author Chill
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final Semaphore permits;
+	private final long timeoutNanos;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, Semaphore permits, long timeoutNanos) {
+		this.delegate = delegate;
+		this.permits = permits;
+		this.timeoutNanos = timeoutNanos;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		acquire();
+		try {
+			return delegate.encode(rawPassword);
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		acquire();
+		try {
+			return delegate.matches(rawPassword, encodedPassword);
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private void acquire() {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AuthenticationServiceException("登录繁忙，请稍后再试", e);
+		}
+		if (!acquired) {
+			throw new AuthenticationServiceException("登录繁忙，请稍后再试");
+		}
+	}
+
+}
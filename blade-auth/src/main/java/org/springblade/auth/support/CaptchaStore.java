@@ -0,0 +1,138 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import com.wf.captcha.SpecCaptcha;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.auth.props.AuthProperties;
+import org.springblade.common.cache.CacheNames;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 验证码存储
+ *
+ * <p>
+ * 验证码图片由后台线程预先生成放入池中，请求线程只取用，不再渲染图片；池为空时退化为当场生成。
+ * 验证码以较短的有效期写入 Redis，校验时通过脚本一次完成 GET 与 DEL，无论对错只能使用一次。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class CaptchaStore implements InitializingBean, DisposableBean {
+
+	private static final RedisScript<String> GET_DEL_SCRIPT = new DefaultRedisScript<>("local value = redis.call('GET', KEYS[1]) " +
+		"if value then redis.call('DEL', KEYS[1]) end " +
+		"return value", String.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final AuthProperties authProperties;
+	private final BlockingQueue<Captcha> pool;
+
+	private Thread producer;
+
+	public CaptchaStore(StringRedisTemplate redisTemplate, AuthProperties authProperties) {
+		this.redisTemplate = redisTemplate;
+		this.authProperties = authProperties;
+		this.pool = new ArrayBlockingQueue<>(Math.max(1, authProperties.getCaptchaPoolSize()));
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		producer = new Thread(this::produce, "blade-captcha-producer");
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	@Override
+	public void destroy() {
+		if (producer != null) {
+			producer.interrupt();
+		}
+	}
+
+	/**
+	 * 签发验证码
+	 *
+	 * @return 验证码
+	 */
+	public Captcha issue() {
+		Captcha captcha = pool.poll();
+		if (captcha == null) {
+			captcha = render();
+		}
+		String key = UUID.randomUUID().toString();
+		redisTemplate.opsForValue().set(CacheNames.CAPTCHA_KEY + key, captcha.getCode(), authProperties.getCaptchaExpire().toMillis(), TimeUnit.MILLISECONDS);
+		return new Captcha(key, captcha.getCode(), captcha.getImage());
+	}
+
+	/**
+	 * 取出并删除验证码
+	 *
+	 * @param key 验证码key
+	 * @return 验证码，不存在或已使用返回 null
+	 */
+	public String consume(String key) {
+		if (key == null) {
+			return null;
+		}
+		return redisTemplate.execute(GET_DEL_SCRIPT, Collections.singletonList(CacheNames.CAPTCHA_KEY + key));
+	}
+
+	private void produce() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				pool.put(render());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				log.warn("captcha render failed", e);
+			}
+		}
+	}
+
+	private static Captcha render() {
+		SpecCaptcha specCaptcha = new SpecCaptcha(130, 48, 5);
+		return new Captcha(null, specCaptcha.text().toLowerCase(), specCaptcha.toBase64());
+	}
+
+	/**
+	 * 验证码，池中预生成的验证码尚未分配key
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Captcha {
+		private final String key;
+		private final String code;
+		private final String image;
+	}
+
+}
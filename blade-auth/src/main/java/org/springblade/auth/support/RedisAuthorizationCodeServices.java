@@ -0,0 +1,76 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.springblade.common.cache.CacheNames;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.security.oauth2.common.util.SerializationUtils;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.code.RandomValueAuthorizationCodeServices;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Redis授权码存储
+ *
+ * <p>
+ * 授权码写入时一并设置过期时间，消费时通过脚本在一次往返内完成 GET 与 DEL，保证多节点下授权码只能使用一次。
+ * </p>
+ *
+ * @author Chill
+ */
+public class RedisAuthorizationCodeServices extends RandomValueAuthorizationCodeServices {
+
+	private static final byte[] GET_DEL_SCRIPT = ("local value = redis.call('GET', KEYS[1]) " +
+		"if value then redis.call('DEL', KEYS[1]) end " +
+		"return value").getBytes(StandardCharsets.UTF_8);
+
+	private final RedisConnectionFactory connectionFactory;
+	private final Expiration expiration;
+
+	public RedisAuthorizationCodeServices(RedisConnectionFactory connectionFactory, Duration expire) {
+		this.connectionFactory = connectionFactory;
+		this.expiration = Expiration.from(expire);
+	}
+
+	@Override
+	protected void store(String code, OAuth2Authentication authentication) {
+		byte[] value = SerializationUtils.serialize(authentication);
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.set(key(code), value, expiration, RedisStringCommands.SetOption.UPSERT);
+		}
+	}
+
+	@Override
+	protected OAuth2Authentication remove(String code) {
+		byte[] value;
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			value = connection.eval(GET_DEL_SCRIPT, ReturnType.VALUE, 1, key(code));
+		}
+		return value == null ? null : SerializationUtils.deserialize(value);
+	}
+
+	private static byte[] key(String code) {
+		return (CacheNames.AUTHORIZATION_CODE_KEY + code).getBytes(StandardCharsets.UTF_8);
+	}
+
+}
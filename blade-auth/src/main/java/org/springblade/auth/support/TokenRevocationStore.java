@@ -0,0 +1,134 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.springblade.auth.props.AuthProperties;
+import org.springblade.common.cache.CacheNames;
+import org.springblade.core.tool.utils.Func;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌吊销记录
+ *
+ * <p>
+ * 注销与强制下线写入同一个有序集合，score 为吊销时间(毫秒)，网关按 score 增量拉取到本地内存。
+ * 单个令牌以 jti 记录；注销以会话ID记录，同一会话刷新得到的令牌全部失效；
+ * 强制下线以用户ID记录，签发时间(毫秒)不晚于该时间的令牌全部失效。
+ * </p>
+ *
+ * @author Chill
+ */
+@Component
+public class TokenRevocationStore {
+
+	private final StringRedisTemplate redisTemplate;
+	private final AuthProperties authProperties;
+
+	public TokenRevocationStore(StringRedisTemplate redisTemplate, AuthProperties authProperties) {
+		this.redisTemplate = redisTemplate;
+		this.authProperties = authProperties;
+	}
+
+	/**
+	 * 吊销单个令牌
+	 *
+	 * @param jti 令牌ID
+	 */
+	public void revokeToken(String jti) {
+		if (Func.isEmpty(jti)) {
+			return;
+		}
+		publish(CacheNames.TOKEN_REVOKE_JTI + jti);
+	}
+
+	/**
+	 * 吊销会话，登录后经刷新签发的令牌与刷新令牌全部失效
+	 *
+	 * @param sessionId 会话ID
+	 */
+	public void revokeSession(String sessionId) {
+		if (Func.isEmpty(sessionId)) {
+			return;
+		}
+		publish(CacheNames.TOKEN_REVOKE_SESSION + sessionId);
+	}
+
+	/**
+	 * 吊销用户当前已签发的全部令牌
+	 *
+	 * @param userId 用户ID
+	 */
+	public void revokeUser(String userId) {
+		if (Func.isEmpty(userId)) {
+			return;
+		}
+		publish(CacheNames.TOKEN_REVOKE_USER + userId);
+	}
+
+	/**
+	 * 令牌是否已吊销
+	 *
+	 * @param sessionId 会话ID
+	 * @param jti       令牌ID
+	 * @param userId    用户ID
+	 * @param issuedAt  签发时间(毫秒)
+	 * @return boolean
+	 */
+	public boolean isRevoked(String sessionId, String jti, String userId, Long issuedAt) {
+		if (isRevoked(CacheNames.TOKEN_REVOKE_SESSION, sessionId) || isRevoked(CacheNames.TOKEN_REVOKE_JTI, jti)) {
+			return true;
+		}
+		if (Func.isEmpty(userId)) {
+			return false;
+		}
+		Double revokedAt = redisTemplate.opsForZSet().score(CacheNames.TOKEN_REVOKE_KEY, CacheNames.TOKEN_REVOKE_USER + userId);
+		if (revokedAt == null) {
+			return false;
+		}
+		// 未携带签发时间的令牌早于吊销机制签发，一并视为失效；与吊销同一毫秒签发的令牌同样失效
+		return issuedAt == null || issuedAt <= revokedAt.longValue();
+	}
+
+	/**
+	 * 令牌签发时间(毫秒)，早期令牌只有秒级的 iat，取该秒的最后一毫秒，保证吊销当秒签发的令牌同样失效
+	 *
+	 * @param issuedAtMillis 毫秒签发时间
+	 * @param issuedAt       秒级签发时间
+	 * @return 签发时间(毫秒)
+	 */
+	public static Long issuedAtMillis(Object issuedAtMillis, Object issuedAt) {
+		if (issuedAtMillis != null) {
+			return Func.toLong(issuedAtMillis);
+		}
+		return issuedAt == null ? null : TimeUnit.SECONDS.toMillis(Func.toLong(issuedAt)) + 999L;
+	}
+
+	private boolean isRevoked(String prefix, String id) {
+		return Func.isNotEmpty(id) && redisTemplate.opsForZSet().score(CacheNames.TOKEN_REVOKE_KEY, prefix + id) != null;
+	}
+
+	private void publish(String member) {
+		long now = System.currentTimeMillis();
+		redisTemplate.opsForZSet().add(CacheNames.TOKEN_REVOKE_KEY, member, now);
+		// 超过保留时间的记录对应的令牌均已过期，顺带清理
+		redisTemplate.opsForZSet().removeRangeByScore(CacheNames.TOKEN_REVOKE_KEY, 0, now - authProperties.getRevokeRetention().toMillis());
+	}
+
+}
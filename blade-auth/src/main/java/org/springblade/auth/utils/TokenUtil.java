@@ -17,6 +17,7 @@
 package org.springblade.auth.utils;
 
 import lombok.SneakyThrows;
+import org.springblade.common.constant.CommonConstant;
 import org.springblade.core.launch.constant.TokenConstant;
 import org.springblade.core.tool.utils.Charsets;
 import org.springblade.core.tool.utils.StringPool;
@@ -47,6 +48,11 @@ public class TokenUtil {
 	public final static String CLIENT_ID = TokenConstant.CLIENT_ID;
 	public final static String LICENSE = TokenConstant.LICENSE;
 	public final static String LICENSE_NAME = TokenConstant.LICENSE_NAME;
+	public final static String TOKEN_ID = "jti";
+	public final static String ISSUED_AT = "iat";
+	public final static String ACCESS_TOKEN_ID = "ati";
+	public final static String SESSION_ID = CommonConstant.TOKEN_SESSION_ID;
+	public final static String ISSUED_AT_MILLIS = CommonConstant.TOKEN_ISSUED_AT_MILLIS;
 
 	public final static String CAPTCHA_HEADER_KEY = "Captcha-Key";
 	public final static String CAPTCHA_HEADER_CODE = "Captcha-Code";
@@ -0,0 +1,124 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springblade.auth.service.BladeUserDetails;
+import org.springblade.auth.utils.TokenUtil;
+import org.springblade.core.launch.constant.TokenConstant;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 精简令牌解析基准测试
+ *
+ * <p>
+ * 以 HS256 签发同一用户的完整令牌与精简令牌，对比验签并解析全部声明的耗时，与服务端每次请求解析令牌的路径一致。
+ * 两种令牌的长度在 setup 中输出。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main CompactTokenBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactTokenBenchmark {
+
+	private JwtAccessTokenConverter converter;
+	private String fullToken;
+	private String compactToken;
+
+	@Setup
+	public void setup() throws Exception {
+		converter = new JwtAccessTokenConverter();
+		converter.setSigningKey(TokenConstant.SIGN_KEY);
+		converter.afterPropertiesSet();
+		OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "sword", Collections.emptyList(), true,
+			Collections.singleton("all"), null, null, null, null);
+		OAuth2Authentication authentication = new OAuth2Authentication(request, null);
+		BladeUserDetails principal = new BladeUserDetails(1123598821738675201L, "000000", "管理员", "管理员",
+			"1123598813738675201", "1123598816738675201", "administrator",
+			"https://gw.alipayobjects.com/zos/rmsportal/BiazfanxmamNRoxxVxka.png", "admin", "benchmark",
+			true, true, true, true, Collections.emptyList());
+		compactToken = sign(authentication, claims(principal, true));
+		fullToken = sign(authentication, claims(principal, false));
+		System.out.printf("full token %d chars, compact token %d chars%n", fullToken.length(), compactToken.length());
+	}
+
+	@Benchmark
+	public Map<String, Object> parseFull() {
+		return converter.decode(fullToken);
+	}
+
+	@Benchmark
+	public Map<String, Object> parseCompact() {
+		return converter.decode(compactToken);
+	}
+
+	private String sign(OAuth2Authentication authentication, Map<String, Object> info) {
+		DefaultOAuth2AccessToken accessToken = new DefaultOAuth2AccessToken("benchmark");
+		accessToken.setAdditionalInformation(info);
+		return converter.enhance(accessToken, authentication).getValue();
+	}
+
+	/**
+	 * 与 BladeJwtTokenEnhancer 写入的声明一致
+	 */
+	private static Map<String, Object> claims(BladeUserDetails principal, boolean compact) {
+		Map<String, Object> info = new HashMap<>(16);
+		info.put(TokenUtil.CLIENT_ID, "sword");
+		info.put(TokenUtil.USER_ID, String.valueOf(principal.getUserId()));
+		info.put(TokenUtil.DEPT_ID, principal.getDeptId());
+		info.put(TokenUtil.ROLE_ID, principal.getRoleId());
+		info.put(TokenUtil.TENANT_ID, principal.getTenantId());
+		info.put(TokenUtil.ROLE_NAME, principal.getRoleName());
+		info.put(TokenUtil.ACCOUNT, principal.getAccount());
+		info.put(TokenUtil.USER_NAME, principal.getUsername());
+		if (!compact) {
+			BladeTokenInfoEnhancer.putDisplayInfo(info, principal);
+		}
+		long now = System.currentTimeMillis();
+		info.put(TokenUtil.TOKEN_ID, "7f1c2d4e-3b5a-4c6d-8e9f-0a1b2c3d4e5f");
+		info.put(TokenUtil.SESSION_ID, "0a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d");
+		info.put(TokenUtil.ISSUED_AT, now / 1000L);
+		info.put(TokenUtil.ISSUED_AT_MILLIS, now);
+		return info;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(CompactTokenBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springblade.auth.props.AuthProperties;
+import org.springblade.auth.utils.TokenUtil;
+import org.springblade.core.launch.constant.TokenConstant;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌签名基准测试
+ *
+ * <p>
+ * 对比 HS256、RS256、ES256 三种签名方式下签发与验签单个令牌的耗时，令牌内容与精简模式一致。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main JwtSignatureBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSignatureBenchmark {
+
+	@Param({"HS256", "RS256", "ES256"})
+	private String algorithm;
+
+	private JwtAccessTokenConverter converter;
+	private DefaultOAuth2AccessToken accessToken;
+	private OAuth2Authentication authentication;
+	private String tokenValue;
+
+	@Setup
+	public void setup() throws Exception {
+		AuthProperties authProperties = new AuthProperties();
+		authProperties.getJwt().setAlgorithm(algorithm);
+		authProperties.getJwt().setDownstreamJwksVerified(true);
+		BladeJwtKeys keys = new BladeJwtKeys(authProperties);
+		if (keys.isAsymmetric()) {
+			converter = new BladeJwtAccessTokenConverter(keys);
+		} else {
+			converter = new JwtAccessTokenConverter();
+			converter.setSigningKey(TokenConstant.SIGN_KEY);
+		}
+		converter.afterPropertiesSet();
+		OAuth2Request request = new OAuth2Request(Collections.emptyMap(), "sword", Collections.emptyList(), true,
+			Collections.singleton("all"), null, null, null, null);
+		authentication = new OAuth2Authentication(request, null);
+		Map<String, Object> info = new HashMap<>(16);
+		info.put(TokenUtil.CLIENT_ID, "sword");
+		info.put(TokenUtil.USER_ID, "1123598821738675201");
+		info.put(TokenUtil.DEPT_ID, "1123598813738675201");
+		info.put(TokenUtil.ROLE_ID, "1123598816738675201");
+		info.put(TokenUtil.TENANT_ID, "000000");
+		info.put(TokenUtil.ROLE_NAME, "administrator");
+		info.put(TokenUtil.ACCOUNT, "admin");
+		info.put(TokenUtil.USER_NAME, "admin");
+		info.put(TokenUtil.TOKEN_ID, "7f1c2d4e-3b5a-4c6d-8e9f-0a1b2c3d4e5f");
+		info.put(TokenUtil.SESSION_ID, "0a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d");
+		info.put(TokenUtil.ISSUED_AT, System.currentTimeMillis() / 1000L);
+		info.put(TokenUtil.ISSUED_AT_MILLIS, System.currentTimeMillis());
+		accessToken = new DefaultOAuth2AccessToken("benchmark");
+		accessToken.setAdditionalInformation(info);
+		tokenValue = sign();
+	}
+
+	@Benchmark
+	public String sign() {
+		return converter.enhance(accessToken, authentication).getValue();
+	}
+
+	@Benchmark
+	public Map<String, Object> verify() {
+		return converter.decode(tokenValue);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(JwtSignatureBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
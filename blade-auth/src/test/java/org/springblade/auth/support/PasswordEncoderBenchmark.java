@@ -0,0 +1,86 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.auth.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springblade.auth.props.AuthProperties;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 密码加密基准测试
+ *
+ * <p>
+ * 对比各加密方式单次校验的耗时，以及 32 个线程并发登录时限流前后的吞吐：
+ * concurrency 为 0 时不限制并发，否则为慢速哈希的许可数。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main PasswordEncoderBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+	private static final String RAW_PASSWORD = "Blade@2020";
+
+	@Param({"blade", "bcrypt", "scrypt"})
+	private String encodingId;
+
+	@Param({"0", "4"})
+	private int concurrency;
+
+	private PasswordEncoder encoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setup() {
+		AuthProperties.Password password = new AuthProperties.Password();
+		password.setEncodingId(encodingId);
+		password.setMaxConcurrency(concurrency > 0 ? concurrency : Integer.MAX_VALUE);
+		encoder = BladePasswordEncoderFactories.createDelegatingPasswordEncoder(password);
+		encodedPassword = encoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return encoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public boolean matchesConcurrent() {
+		return encoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(PasswordEncoderBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
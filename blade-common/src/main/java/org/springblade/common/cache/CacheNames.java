@@ -25,4 +25,17 @@ public interface CacheNames {
 
 	String CAPTCHA_KEY = "blade:auth::blade:captcha:";
 
+	String AUTHORIZATION_CODE_KEY = "blade:auth::blade:code:";
+
+	/**
+	 * 令牌吊销集合，score 为吊销时间，成员为 {@link #TOKEN_REVOKE_JTI}、{@link #TOKEN_REVOKE_SESSION} 或 {@link #TOKEN_REVOKE_USER} 加上对应ID
+	 */
+	String TOKEN_REVOKE_KEY = "blade:auth::blade:token:revoked";
+
+	String TOKEN_REVOKE_JTI = "t:";
+
+	String TOKEN_REVOKE_SESSION = "s:";
+
+	String TOKEN_REVOKE_USER = "u:";
+
 }
@@ -0,0 +1,30 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+/**
+ * 本地二级缓存只读值标记
+ *
+ * <p>
+ * NearCache 命中时默认返回缓存值的副本；实现此接口的类型须保证创建后不再修改，且不向调用方暴露可变的内部状态，
+ * 命中时直接返回缓存实例，适用于构建代价高、只提供查询方法的索引结构。
+ * </p>
+ *
+ * @author Chill
+ */
+public interface ImmutableValue {
+}
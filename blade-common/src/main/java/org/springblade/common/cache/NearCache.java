@@ -0,0 +1,195 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.util.SerializationUtils;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 本地二级缓存工具类
+ *
+ * <p>
+ * 用法与 CacheUtil 一致，key 与 Redis 缓存保持相同，未命中时交由 loader 继续查询 Redis 及远程服务。
+ * 未启用时直接调用 loader。
+ * 缓存实例在各线程间共享，除 String、包装类型、枚举及 {@link ImmutableValue} 外，
+ * 其余值以序列化形式存放，每次命中返回独立的副本，调用方修改返回值不会影响缓存；无法序列化的值不进入本地缓存。
+ * </p>
+ *
+ * @author Chill
+ */
+public class NearCache {
+
+	/**
+	 * 不可变的值类型，直接缓存实例
+	 */
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+		String.class, Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class,
+		Boolean.class, Character.class, BigDecimal.class, BigInteger.class));
+
+	private static volatile NearCacheManager nearCacheManager;
+
+	static void setNearCacheManager(NearCacheManager manager) {
+		nearCacheManager = manager;
+	}
+
+	/**
+	 * 获取缓存
+	 *
+	 * @param cacheName 缓存名
+	 * @param keyPrefix 缓存键前缀
+	 * @param key       缓存键值
+	 * @param loader    未命中时的加载方法，通常为 CacheUtil.get
+	 * @param <T>       泛型
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(String cacheName, String keyPrefix, Object key, Supplier<T> loader) {
+		NearCacheManager manager = nearCacheManager;
+		if (manager == null || key == null) {
+			return loader.get();
+		}
+		Cache<String, Object> cache = manager.getCache(cacheName);
+		String cacheKey = keyPrefix + key;
+		Object value = cache.getIfPresent(cacheKey);
+		if (value != null) {
+			return (T) thaw(value);
+		}
+		T loaded = loader.get();
+		put(cache, cacheKey, loaded);
+		return loaded;
+	}
+
+	/**
+	 * 批量获取缓存
+	 *
+	 * <p>
+	 * 依次查询本地缓存与 secondLevel(通常为 Redis)，仍未命中的 key 汇总后只调用一次 loader，
+	 * loader 负责回填 Redis，加载结果回填本地缓存。
+	 * </p>
+	 *
+	 * @param cacheName   缓存名
+	 * @param keyPrefix   缓存键前缀
+	 * @param keys        缓存键值集合
+	 * @param secondLevel 单个 key 的二级缓存查询，未命中返回 null
+	 * @param loader      未命中 key 的批量加载方法
+	 * @param <K>         键泛型
+	 * @param <V>         值泛型
+	 * @return 命中的键值，不包含查询不到的 key
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> Map<K, V> getAll(String cacheName, String keyPrefix, Collection<K> keys,
+										  Function<K, V> secondLevel, Function<Collection<K>, Map<K, V>> loader) {
+		Map<K, V> result = new HashMap<>(keys.size() * 2);
+		NearCacheManager manager = nearCacheManager;
+		Cache<String, Object> cache = (manager == null) ? null : manager.getCache(cacheName);
+		Set<K> misses = new LinkedHashSet<>();
+		for (K key : keys) {
+			if (key == null || result.containsKey(key) || misses.contains(key)) {
+				continue;
+			}
+			V value = (cache == null) ? null : (V) thaw(cache.getIfPresent(keyPrefix + key));
+			if (value == null) {
+				value = secondLevel.apply(key);
+				if (cache != null) {
+					put(cache, keyPrefix + key, value);
+				}
+			}
+			if (value != null) {
+				result.put(key, value);
+			} else {
+				misses.add(key);
+			}
+		}
+		if (misses.isEmpty()) {
+			return result;
+		}
+		Map<K, V> loaded = loader.apply(misses);
+		if (loaded != null) {
+			loaded.forEach((key, value) -> {
+				if (key != null && value != null) {
+					result.put(key, value);
+					if (cache != null) {
+						put(cache, keyPrefix + key, value);
+					}
+				}
+			});
+		}
+		return result;
+	}
+
+	/**
+	 * 清空所有节点的本地缓存
+	 *
+	 * @param cacheNames 缓存名
+	 */
+	public static void evict(String... cacheNames) {
+		NearCacheManager manager = nearCacheManager;
+		if (manager == null) {
+			return;
+		}
+		for (String cacheName : cacheNames) {
+			manager.evict(cacheName);
+		}
+	}
+
+	/**
+	 * 写入本地缓存，可变的值序列化后存放，无法序列化的值不缓存
+	 */
+	private static void put(Cache<String, Object> cache, String cacheKey, Object value) {
+		if (value == null) {
+			return;
+		}
+		if (isImmutable(value)) {
+			cache.put(cacheKey, value);
+		} else if (value instanceof Serializable) {
+			cache.put(cacheKey, new Frozen(SerializationUtils.serialize(value)));
+		}
+	}
+
+	/**
+	 * 读取缓存值，序列化存放的值每次返回新的副本
+	 */
+	private static Object thaw(Object value) {
+		if (value instanceof Frozen) {
+			return SerializationUtils.deserialize(((Frozen) value).bytes);
+		}
+		return value;
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof ImmutableValue || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+	}
+
+	/**
+	 * 序列化存放的缓存值
+	 */
+	private static final class Frozen {
+		private final byte[] bytes;
+
+		private Frozen(byte[] bytes) {
+			this.bytes = bytes;
+		}
+	}
+
+}
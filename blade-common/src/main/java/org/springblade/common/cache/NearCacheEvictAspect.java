@@ -0,0 +1,45 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.cache.annotation.CacheEvict;
+
+/**
+ * 在 {@link CacheEvict} 生效后同步清空各节点的本地缓存
+ *
+ * @author Chill
+ */
+@Aspect
+@AllArgsConstructor
+public class NearCacheEvictAspect {
+
+	private final NearCacheManager nearCacheManager;
+
+	@AfterReturning("@annotation(cacheEvict)")
+	public void afterEvict(CacheEvict cacheEvict) {
+		for (String cacheName : cacheEvict.cacheNames()) {
+			nearCacheManager.evict(cacheName);
+		}
+		for (String cacheName : cacheEvict.value()) {
+			nearCacheManager.evict(cacheName);
+		}
+	}
+
+}
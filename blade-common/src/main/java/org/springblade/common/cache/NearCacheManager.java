@@ -0,0 +1,137 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 本地二级缓存管理
+ *
+ * <p>
+ * 每个缓存名对应一个有容量与过期上限的 Caffeine 缓存，位于 Redis 缓存之前；
+ * 缓存失效时通过 Redis 发布订阅通知所有节点清空对应的本地缓存。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+public class NearCacheManager implements InitializingBean, DisposableBean {
+
+	private final NearCacheProperties properties;
+	private final RedisConnectionFactory connectionFactory;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<String, Cache<String, Object>> caches = new ConcurrentHashMap<>();
+	private StringRedisTemplate redisTemplate;
+	private RedisMessageListenerContainer listenerContainer;
+
+	public NearCacheManager(NearCacheProperties properties, RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.connectionFactory = connectionFactory;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (connectionFactory != null) {
+			redisTemplate = new StringRedisTemplate(connectionFactory);
+			listenerContainer = new RedisMessageListenerContainer();
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.addMessageListener((message, pattern) -> invalidate(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(properties.getChannel()));
+			listenerContainer.afterPropertiesSet();
+			listenerContainer.start();
+		}
+		NearCache.setNearCacheManager(this);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		NearCache.setNearCacheManager(null);
+		if (listenerContainer != null) {
+			listenerContainer.destroy();
+		}
+	}
+
+	/**
+	 * 获取本地缓存
+	 *
+	 * @param cacheName 缓存名
+	 * @return Cache
+	 */
+	public Cache<String, Object> getCache(String cacheName) {
+		Cache<String, Object> cache = caches.get(cacheName);
+		if (cache != null) {
+			return cache;
+		}
+		return caches.computeIfAbsent(cacheName, this::createCache);
+	}
+
+	private Cache<String, Object> createCache(String cacheName) {
+		Cache<String, Object> cache = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumSize())
+			.expireAfterWrite(properties.getExpire())
+			.recordStats()
+			.build();
+		if (meterRegistry != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, "near:" + cacheName);
+		}
+		return cache;
+	}
+
+	/**
+	 * 清空本节点的本地缓存
+	 *
+	 * @param cacheName 缓存名
+	 */
+	public void invalidate(String cacheName) {
+		Cache<String, Object> cache = caches.get(cacheName);
+		if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	/**
+	 * 清空本节点的本地缓存，并广播至其他节点
+	 *
+	 * @param cacheName 缓存名
+	 */
+	public void evict(String cacheName) {
+		invalidate(cacheName);
+		if (redisTemplate == null) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(properties.getChannel(), cacheName);
+		} catch (Exception e) {
+			log.error("near cache evict publish failed: {}", e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 本地二级缓存配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.cache.near")
+public class NearCacheProperties {
+
+	/**
+	 * 是否开启
+	 */
+	private Boolean enabled = true;
+
+	/**
+	 * 每个缓存名下的最大缓存数量
+	 */
+	private Long maximumSize = 10000L;
+
+	/**
+	 * 写入后的过期时间
+	 */
+	private Duration expire = Duration.ofMinutes(5);
+
+	/**
+	 * 缓存失效广播的 Redis 频道
+	 */
+	private String channel = "blade:cache:near:evict";
+
+}
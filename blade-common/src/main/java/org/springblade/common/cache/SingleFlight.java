@@ -0,0 +1,184 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 缓存加载合并工具类
+ *
+ * <p>
+ * 同一 key 同时只有一个线程执行加载，其余线程等待其结果，避免热点 key 失效时大量请求同时穿透到远程服务。
+ * 每次加载记录耗时，读取命中时按 XFetch 算法 {@code now - delta * beta * ln(random) >= expireAt}
+ * 概率性地在过期前由单个请求提前刷新，加载越慢、越接近过期，提前刷新的概率越大。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+public class SingleFlight {
+
+	private static final ConcurrentMap<String, CompletableFuture<Object>> FLIGHTS = new ConcurrentHashMap<>();
+
+	private static volatile SingleFlightProperties properties = new SingleFlightProperties();
+	private static volatile Cache<String, Stamp> stamps = buildStamps(properties);
+
+	public static void setProperties(SingleFlightProperties singleFlightProperties) {
+		properties = singleFlightProperties;
+		stamps = buildStamps(singleFlightProperties);
+	}
+
+	private static Cache<String, Stamp> buildStamps(SingleFlightProperties properties) {
+		return Caffeine.newBuilder().maximumSize(properties.getMaximumSize()).build();
+	}
+
+	/**
+	 * 获取缓存，未命中时合并加载并回写
+	 *
+	 * @param cacheName 缓存名
+	 * @param cacheKey  缓存键
+	 * @param cached    缓存读取方法，未命中返回 null
+	 * @param loader    远程加载方法
+	 * @param store     缓存回写方法
+	 * @param <T>       泛型
+	 * @return T
+	 */
+	public static <T> T get(String cacheName, String cacheKey, Supplier<T> cached, Supplier<T> loader, Consumer<T> store) {
+		String key = cacheName + "::" + cacheKey;
+		T value = cached.get();
+		if (value == null) {
+			return load(key, loader, store);
+		}
+		if (shouldRefresh(key)) {
+			return refresh(key, value, loader, store);
+		}
+		return value;
+	}
+
+	/**
+	 * 合并加载，同一 key 同时只执行一次 loader
+	 *
+	 * @param key    key
+	 * @param loader 加载方法
+	 * @param <T>    泛型
+	 * @return T
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T load(String key, Supplier<T> loader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> existing = FLIGHTS.putIfAbsent(key, flight);
+		if (existing != null) {
+			return (T) await(existing);
+		}
+		try {
+			T value = loader.get();
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			FLIGHTS.remove(key, flight);
+		}
+	}
+
+	private static <T> T load(String key, Supplier<T> loader, Consumer<T> store) {
+		return load(key, () -> loadAndStore(key, loader, store));
+	}
+
+	/**
+	 * 提前刷新，已有线程在加载时直接返回旧值，刷新失败同样返回旧值
+	 */
+	private static <T> T refresh(String key, T value, Supplier<T> loader, Consumer<T> store) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		if (FLIGHTS.putIfAbsent(key, flight) != null) {
+			return value;
+		}
+		try {
+			T refreshed = loadAndStore(key, loader, store);
+			flight.complete(refreshed);
+			return refreshed == null ? value : refreshed;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			log.warn("cache early refresh failed, key: {}", key, e);
+			return value;
+		} finally {
+			FLIGHTS.remove(key, flight);
+		}
+	}
+
+	private static <T> T loadAndStore(String key, Supplier<T> loader, Consumer<T> store) {
+		long start = System.nanoTime();
+		T value = loader.get();
+		store.accept(value);
+		long now = System.nanoTime();
+		stamps.put(key, new Stamp(now - start, now + properties.getTtl().toNanos()));
+		return value;
+	}
+
+	private static boolean shouldRefresh(String key) {
+		if (!properties.getEarlyRefresh()) {
+			return false;
+		}
+		Stamp stamp = stamps.getIfPresent(key);
+		if (stamp == null) {
+			return false;
+		}
+		double random = 1.0D - ThreadLocalRandom.current().nextDouble();
+		double gap = -stamp.delta * properties.getBeta() * Math.log(random);
+		return System.nanoTime() + gap >= stamp.expireAt;
+	}
+
+	private static Object await(CompletableFuture<Object> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 加载耗时与逻辑过期时间
+	 */
+	private static class Stamp {
+		private final long delta;
+		private final long expireAt;
+
+		private Stamp(long delta, long expireAt) {
+			this.delta = delta;
+			this.expireAt = expireAt;
+		}
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 缓存加载合并配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.cache.single-flight")
+public class SingleFlightProperties {
+
+	/**
+	 * 是否在过期前概率性提前刷新
+	 */
+	private Boolean earlyRefresh = true;
+
+	/**
+	 * 缓存有效期，需与 Redis 缓存的过期时间保持一致，未设置过期时间的缓存按此周期刷新
+	 */
+	private Duration ttl = Duration.ofHours(1);
+
+	/**
+	 * 提前刷新系数，越大越倾向于提前刷新
+	 */
+	private Double beta = 1.0D;
+
+	/**
+	 * 记录加载耗时的最大 key 数量
+	 */
+	private Long maximumSize = 10000L;
+
+}
@@ -0,0 +1,56 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springblade.common.cache.NearCacheEvictAspect;
+import org.springblade.common.cache.NearCacheManager;
+import org.springblade.common.cache.NearCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * 本地二级缓存配置类
+ *
+ * @author Chill
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({Caffeine.class, RedisConnectionFactory.class})
+@ConditionalOnProperty(value = "blade.cache.near.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfiguration {
+
+	@Bean
+	public NearCacheManager nearCacheManager(NearCacheProperties properties, ObjectProvider<RedisConnectionFactory> connectionFactory, ObjectProvider<MeterRegistry> meterRegistry) {
+		return new NearCacheManager(properties, connectionFactory.getIfAvailable(), meterRegistry.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+	public NearCacheEvictAspect nearCacheEvictAspect(NearCacheManager nearCacheManager) {
+		return new NearCacheEvictAspect(nearCacheManager);
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springblade.common.cache.SingleFlight;
+import org.springblade.common.cache.SingleFlightProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 缓存加载合并配置类
+ *
+ * @author Chill
+ */
+@Configuration
+@ConditionalOnClass(Caffeine.class)
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfiguration {
+
+	public SingleFlightConfiguration(SingleFlightProperties properties) {
+		SingleFlight.setProperties(properties);
+	}
+
+}
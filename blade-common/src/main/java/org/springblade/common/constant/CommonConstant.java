@@ -68,5 +68,15 @@ public interface CommonConstant {
 	 */
 	Integer API_SCOPE_CATEGORY = 2;
 
+	/**
+	 * 令牌会话ID，登录时生成，刷新令牌时沿用，注销时吊销整条刷新链
+	 */
+	String TOKEN_SESSION_ID = "sid";
+
+	/**
+	 * 令牌签发时间(毫秒)，与吊销时间按毫秒比较
+	 */
+	String TOKEN_ISSUED_AT_MILLIS = "iat_ms";
+
 
 }
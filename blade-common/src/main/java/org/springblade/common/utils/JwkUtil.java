@@ -0,0 +1,127 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.common.utils;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWK工具类，支持 RSA 与 P-256 椭圆曲线公钥
+ *
+ * @author Chill
+ */
+public class JwkUtil {
+
+	public static final String KEY_ID = "kid";
+	public static final String KEY_TYPE = "kty";
+	public static final String ALGORITHM = "alg";
+	public static final String USE = "use";
+	public static final String KEYS = "keys";
+
+	private static final String RSA = "RSA";
+	private static final String EC = "EC";
+	private static final String P_256 = "P-256";
+	private static final int P_256_FIELD_SIZE = 32;
+
+	/**
+	 * 公钥转JWK
+	 *
+	 * @param keyId     密钥ID
+	 * @param algorithm 签名算法，如 RS256、ES256
+	 * @param publicKey 公钥
+	 * @return JWK
+	 */
+	public static Map<String, Object> toJwk(String keyId, String algorithm, PublicKey publicKey) {
+		Map<String, Object> jwk = new LinkedHashMap<>(8);
+		jwk.put(KEY_ID, keyId);
+		jwk.put(USE, "sig");
+		jwk.put(ALGORITHM, algorithm);
+		if (publicKey instanceof RSAPublicKey) {
+			RSAPublicKey key = (RSAPublicKey) publicKey;
+			jwk.put(KEY_TYPE, RSA);
+			jwk.put("n", encode(key.getModulus(), 0));
+			jwk.put("e", encode(key.getPublicExponent(), 0));
+		} else if (publicKey instanceof ECPublicKey) {
+			ECPoint point = ((ECPublicKey) publicKey).getW();
+			jwk.put(KEY_TYPE, EC);
+			jwk.put("crv", P_256);
+			jwk.put("x", encode(point.getAffineX(), P_256_FIELD_SIZE));
+			jwk.put("y", encode(point.getAffineY(), P_256_FIELD_SIZE));
+		} else {
+			throw new IllegalArgumentException("Unsupported public key: " + publicKey.getAlgorithm());
+		}
+		return jwk;
+	}
+
+	/**
+	 * JWK转公钥
+	 *
+	 * @param jwk JWK
+	 * @return 公钥
+	 */
+	public static PublicKey toPublicKey(Map<String, ?> jwk) {
+		Object keyType = jwk.get(KEY_TYPE);
+		try {
+			if (RSA.equals(keyType)) {
+				RSAPublicKeySpec spec = new RSAPublicKeySpec(decode(jwk.get("n")), decode(jwk.get("e")));
+				return KeyFactory.getInstance(RSA).generatePublic(spec);
+			}
+			if (EC.equals(keyType) && P_256.equals(jwk.get("crv"))) {
+				AlgorithmParameters parameters = AlgorithmParameters.getInstance(EC);
+				parameters.init(new ECGenParameterSpec("secp256r1"));
+				ECPoint point = new ECPoint(decode(jwk.get("x")), decode(jwk.get("y")));
+				ECPublicKeySpec spec = new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+				return KeyFactory.getInstance(EC).generatePublic(spec);
+			}
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Invalid jwk: " + jwk.get(KEY_ID), e);
+		}
+		throw new IllegalArgumentException("Unsupported jwk: " + keyType);
+	}
+
+	private static String encode(BigInteger value, int size) {
+		byte[] bytes = value.toByteArray();
+		// 去掉符号位补的0，椭圆曲线坐标按定长左补0
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		if (bytes.length < size) {
+			byte[] padded = new byte[size];
+			System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+			bytes = padded;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static BigInteger decode(Object value) {
+		return new BigInteger(1, Base64.getUrlDecoder().decode(String.valueOf(value)));
+	}
+
+}
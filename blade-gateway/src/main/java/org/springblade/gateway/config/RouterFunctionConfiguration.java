@@ -22,7 +22,12 @@ import org.springblade.gateway.handler.SwaggerResourceHandler;
 import org.springblade.gateway.handler.SwaggerSecurityHandler;
 import org.springblade.gateway.handler.SwaggerUiHandler;
 import org.springblade.gateway.props.AuthProperties;
+import org.springblade.gateway.props.JwtProperties;
+import org.springblade.gateway.props.RateLimitProperties;
+import org.springblade.gateway.props.RequestLogProperties;
 import org.springblade.gateway.props.RouteProperties;
+import org.springblade.gateway.props.TokenCacheProperties;
+import org.springblade.gateway.props.TokenRevokeProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,7 +54,7 @@ import reactor.core.publisher.Mono;
 @Slf4j
 @Configuration
 @AllArgsConstructor
-@EnableConfigurationProperties({RouteProperties.class, AuthProperties.class})
+@EnableConfigurationProperties({RouteProperties.class, AuthProperties.class, TokenCacheProperties.class, TokenRevokeProperties.class, JwtProperties.class, RequestLogProperties.class, RateLimitProperties.class})
 public class RouterFunctionConfiguration {
 
 	private final SwaggerResourceHandler swaggerResourceHandler;
@@ -0,0 +1,92 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.dynamic;
+
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinitionRepository;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 动态路由存储
+ *
+ * <p>
+ * 路由表为不可变快照，写入时复制后整体替换，读取方始终看到完整的一版路由，不会出现路由短暂缺失。
+ * </p>
+ *
+ * @author Chill
+ */
+@Component
+public class DynamicRouteDefinitionRepository implements RouteDefinitionRepository {
+
+	private volatile Map<String, RouteDefinition> routes = Collections.emptyMap();
+
+	@Override
+	public Flux<RouteDefinition> getRouteDefinitions() {
+		return Flux.fromIterable(routes.values());
+	}
+
+	@Override
+	public Mono<Void> save(Mono<RouteDefinition> route) {
+		return route.flatMap(definition -> {
+			synchronized (this) {
+				Map<String, RouteDefinition> copy = new LinkedHashMap<>(routes);
+				copy.put(definition.getId(), definition);
+				routes = Collections.unmodifiableMap(copy);
+			}
+			return Mono.empty();
+		});
+	}
+
+	@Override
+	public Mono<Void> delete(Mono<String> routeId) {
+		return routeId.flatMap(id -> {
+			synchronized (this) {
+				if (!routes.containsKey(id)) {
+					return Mono.error(new NotFoundException("RouteDefinition not found: " + id));
+				}
+				Map<String, RouteDefinition> copy = new LinkedHashMap<>(routes);
+				copy.remove(id);
+				routes = Collections.unmodifiableMap(copy);
+			}
+			return Mono.empty();
+		});
+	}
+
+	/**
+	 * 当前路由快照
+	 */
+	public Map<String, RouteDefinition> snapshot() {
+		return routes;
+	}
+
+	/**
+	 * 整体替换路由表
+	 *
+	 * @param definitions 新路由表
+	 */
+	public synchronized void replace(Map<String, RouteDefinition> definitions) {
+		routes = Collections.unmodifiableMap(new LinkedHashMap<>(definitions));
+	}
+
+}
@@ -16,6 +16,12 @@
  */
 package org.springblade.gateway.dynamic;
 
+import com.alibaba.fastjson.JSON;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
 import org.springframework.cloud.gateway.route.RouteDefinition;
 import org.springframework.cloud.gateway.route.RouteDefinitionWriter;
@@ -24,22 +30,45 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 动态路由业务类
  *
  * @author Chill
  */
+@Slf4j
 @Service
 public class DynamicRouteService implements ApplicationEventPublisherAware {
 
+	/**
+	 * 路由加载耗时指标名
+	 */
+	private static final String METRIC_NAME = "blade.gateway.route.reload";
+
 	private final RouteDefinitionWriter routeDefinitionWriter;
 
+	private final DynamicRouteDefinitionRepository routeDefinitionRepository;
+
+	private final Timer parseTimer;
+
+	private final Timer diffTimer;
+
+	private final Timer applyTimer;
+
 	private ApplicationEventPublisher publisher;
 
-	public DynamicRouteService(RouteDefinitionWriter routeDefinitionWriter) {
+	public DynamicRouteService(RouteDefinitionWriter routeDefinitionWriter, DynamicRouteDefinitionRepository routeDefinitionRepository, ObjectProvider<MeterRegistry> meterRegistry) {
 		this.routeDefinitionWriter = routeDefinitionWriter;
+		this.routeDefinitionRepository = routeDefinitionRepository;
+		MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+		this.parseTimer = Timer.builder(METRIC_NAME).tag("phase", "parse").register(registry);
+		this.diffTimer = Timer.builder(METRIC_NAME).tag("phase", "diff").register(registry);
+		this.applyTimer = Timer.builder(METRIC_NAME).tag("phase", "apply").register(registry);
 	}
 
 	@Override
@@ -77,10 +106,48 @@ public class DynamicRouteService implements ApplicationEventPublisherAware {
 	}
 
 	/**
-	 * 更新路由
+	 * 解析并全量加载路由配置
+	 *
+	 * @param configInfo 路由配置json
 	 */
-	public String updateList(List<RouteDefinition> routeDefinitions) {
-		routeDefinitions.forEach(this::update);
+	public String reload(String configInfo) {
+		long start = System.nanoTime();
+		List<RouteDefinition> routeDefinitions = JSON.parseArray(configInfo, RouteDefinition.class);
+		parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		if (routeDefinitions == null) {
+			return "update skipped";
+		}
+		return updateList(routeDefinitions);
+	}
+
+	/**
+	 * 全量更新路由，与当前路由表比对后一次性替换，只发布一次刷新事件
+	 */
+	public synchronized String updateList(List<RouteDefinition> routeDefinitions) {
+		long start = System.nanoTime();
+		Map<String, RouteDefinition> current = routeDefinitionRepository.snapshot();
+		Map<String, RouteDefinition> target = new LinkedHashMap<>(routeDefinitions.size() * 2);
+		routeDefinitions.forEach(definition -> target.put(definition.getId(), definition));
+		int added = 0;
+		int changed = 0;
+		for (Map.Entry<String, RouteDefinition> entry : target.entrySet()) {
+			RouteDefinition previous = current.get(entry.getKey());
+			if (previous == null) {
+				added++;
+			} else if (!Objects.equals(previous, entry.getValue())) {
+				changed++;
+			}
+		}
+		int removed = (int) current.keySet().stream().filter(id -> !target.containsKey(id)).count();
+		long diffEnd = System.nanoTime();
+		diffTimer.record(diffEnd - start, TimeUnit.NANOSECONDS);
+		if (added == 0 && changed == 0 && removed == 0) {
+			return "update skipped";
+		}
+		routeDefinitionRepository.replace(target);
+		this.publisher.publishEvent(new RefreshRoutesEvent(this));
+		applyTimer.record(System.nanoTime() - diffEnd, TimeUnit.NANOSECONDS);
+		log.info("dynamic routes reloaded, added: {}, changed: {}, removed: {}", added, changed, removed);
 		return "update done";
 	}
 
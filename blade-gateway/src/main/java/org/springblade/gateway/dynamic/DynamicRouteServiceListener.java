@@ -18,7 +18,6 @@ package org.springblade.gateway.dynamic;
 
 import com.alibaba.cloud.nacos.NacosConfigProperties;
 import com.alibaba.cloud.nacos.NacosDiscoveryProperties;
-import com.alibaba.fastjson.JSON;
 import com.alibaba.nacos.api.NacosFactory;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.listener.Listener;
@@ -26,11 +25,9 @@ import com.alibaba.nacos.api.exception.NacosException;
 import lombok.extern.slf4j.Slf4j;
 import org.springblade.core.launch.constant.NacosConstant;
 import org.springblade.core.launch.props.BladeProperties;
-import org.springframework.cloud.gateway.route.RouteDefinition;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -68,8 +65,7 @@ public class DynamicRouteServiceListener {
 			configService.addListener(dataId, group, new Listener() {
 				@Override
 				public void receiveConfigInfo(String configInfo) {
-					List<RouteDefinition> routeDefinitions = JSON.parseArray(configInfo, RouteDefinition.class);
-					dynamicRouteService.updateList(routeDefinitions);
+					dynamicRouteService.reload(configInfo);
 				}
 
 				@Override
@@ -79,8 +75,7 @@ public class DynamicRouteServiceListener {
 			});
 			String configInfo = configService.getConfig(dataId, group, 5000);
 			if (configInfo != null) {
-				List<RouteDefinition> routeDefinitions = JSON.parseArray(configInfo, RouteDefinition.class);
-				dynamicRouteService.updateList(routeDefinitions);
+				dynamicRouteService.reload(configInfo);
 			}
 		} catch (NacosException ignored) {
 
@@ -23,10 +23,13 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springblade.core.jwt.JwtUtil;
-import org.springblade.gateway.props.AuthProperties;
 import org.springblade.gateway.provider.AuthProvider;
 import org.springblade.gateway.provider.RequestProvider;
 import org.springblade.gateway.provider.ResponseProvider;
+import org.springblade.gateway.support.DenyUrlMatcher;
+import org.springblade.gateway.support.JwtClaimsCache;
+import org.springblade.gateway.support.SkipUrlMatcher;
+import org.springblade.gateway.support.TokenRevocationList;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -39,6 +42,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 /**
  * 鉴权认证
@@ -49,11 +53,17 @@ import java.nio.charset.StandardCharsets;
 @Component
 @AllArgsConstructor
 public class AuthFilter implements GlobalFilter, Ordered {
-	private AuthProperties authProperties;
+	private SkipUrlMatcher skipUrlMatcher;
+	private DenyUrlMatcher denyUrlMatcher;
+	private JwtClaimsCache jwtClaimsCache;
+	private TokenRevocationList tokenRevocationList;
 	private ObjectMapper objectMapper;
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		if (denyUrlMatcher.isDeny(RequestProvider.getOriginalRequestPath(exchange))) {
+			return forbidden(exchange.getResponse());
+		}
 		String originalRequestUrl = RequestProvider.getOriginalRequestUrl(exchange);
 		String path = exchange.getRequest().getURI().getPath();
 		if (isSkip(path) || isSkip(originalRequestUrl)) {
@@ -67,24 +77,35 @@ public class AuthFilter implements GlobalFilter, Ordered {
 		}
 		String auth = StringUtils.isBlank(headerToken) ? paramToken : headerToken;
 		String token = JwtUtil.getToken(auth);
-		Claims claims = JwtUtil.parseJWT(token);
+		Claims claims = jwtClaimsCache.getClaims(exchange, token);
 		if (claims == null) {
 			return unAuth(resp, "请求未授权");
 		}
+		if (tokenRevocationList.isRevoked(claims)) {
+			return unAuth(resp, "令牌已失效");
+		}
 		return chain.filter(exchange);
 	}
 
 	private boolean isSkip(String path) {
-		return AuthProvider.getDefaultSkipUrl().stream().map(url -> url.replace(AuthProvider.TARGET, AuthProvider.REPLACEMENT)).anyMatch(path::startsWith)
-			|| authProperties.getSkipUrl().stream().map(url -> url.replace(AuthProvider.TARGET, AuthProvider.REPLACEMENT)).anyMatch(path::startsWith);
+		return skipUrlMatcher.isSkip(path);
 	}
 
 	private Mono<Void> unAuth(ServerHttpResponse resp, String msg) {
 		resp.setStatusCode(HttpStatus.UNAUTHORIZED);
+		return write(resp, ResponseProvider.unAuth(msg));
+	}
+
+	private Mono<Void> forbidden(ServerHttpResponse resp) {
+		resp.setStatusCode(HttpStatus.FORBIDDEN);
+		return write(resp, ResponseProvider.response(HttpStatus.FORBIDDEN.value(), "禁止访问"));
+	}
+
+	private Mono<Void> write(ServerHttpResponse resp, Map<String, Object> body) {
 		resp.getHeaders().add("Content-Type", "application/json;charset=UTF-8");
 		String result = "";
 		try {
-			result = objectMapper.writeValueAsString(ResponseProvider.unAuth(msg));
+			result = objectMapper.writeValueAsString(body);
 		} catch (JsonProcessingException e) {
 			log.error(e.getMessage(), e);
 		}
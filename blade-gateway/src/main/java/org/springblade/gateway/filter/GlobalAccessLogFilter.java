@@ -0,0 +1,133 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.filter;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springblade.core.launch.constant.TokenConstant;
+import org.springblade.gateway.props.RequestLogProperties;
+import org.springblade.gateway.provider.RequestProvider;
+import org.springblade.gateway.support.AccessLogRecord;
+import org.springblade.gateway.support.AccessLogWriter;
+import org.springblade.gateway.support.JwtClaimsCache;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * webflux 结构化访问日志，按路由采样后交由 {@link AccessLogWriter} 异步输出。
+ * 仅在 blade.log.request.mode=async 时生效，排序要优先以便统计完整耗时。
+ *
+ * @author Chill
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "blade.log.request.enabled", havingValue = "true", matchIfMissing = true)
+public class GlobalAccessLogFilter implements GlobalFilter, Ordered {
+	private static final String[] EMPTY_HEADERS = new String[0];
+
+	private final WebEndpointProperties endpointProperties;
+	private final RequestLogProperties properties;
+	private final AccessLogWriter accessLogWriter;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		if (!properties.isAsync()) {
+			return chain.filter(exchange);
+		}
+		ServerHttpRequest request = exchange.getRequest();
+		String path = request.getPath().pathWithinApplication().value();
+		// 忽略 endpoint 请求
+		String endpointBasePath = endpointProperties.getBasePath();
+		if (StringUtils.isNotBlank(endpointBasePath) && path.startsWith(endpointBasePath)) {
+			return chain.filter(exchange);
+		}
+		long start = System.nanoTime();
+		return chain.filter(exchange).doFinally(signal -> record(exchange, start));
+	}
+
+	private void record(ServerWebExchange exchange, long start) {
+		Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		String routeId = (route == null) ? null : route.getId();
+		if (!sampled(routeId)) {
+			return;
+		}
+		ServerHttpRequest request = exchange.getRequest();
+		HttpStatus status = exchange.getResponse().getStatusCode();
+		Claims claims = exchange.getAttribute(JwtClaimsCache.CLAIMS_ATTR);
+		String tenantId = (claims == null) ? null : claims.get(TokenConstant.TENANT_ID, String.class);
+		String clientId = (claims == null) ? null : claims.get(TokenConstant.CLIENT_ID, String.class);
+		accessLogWriter.submit(new AccessLogRecord(
+			request.getMethodValue(),
+			RequestProvider.getOriginalRequestPath(exchange),
+			routeId,
+			(status == null) ? 0 : status.value(),
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+			tenantId,
+			clientId,
+			headers(request.getHeaders())
+		));
+	}
+
+	private boolean sampled(String routeId) {
+		Double rate = null;
+		Map<String, Double> routeSampleRates = properties.getRouteSampleRates();
+		if (routeId != null && !routeSampleRates.isEmpty()) {
+			rate = routeSampleRates.get(routeId);
+		}
+		if (rate == null) {
+			rate = properties.getSampleRate();
+		}
+		return rate >= 1.0D || (rate > 0.0D && ThreadLocalRandom.current().nextDouble() < rate);
+	}
+
+	private String[] headers(HttpHeaders httpHeaders) {
+		List<String> allowed = properties.getHeaders();
+		if (allowed.isEmpty()) {
+			return EMPTY_HEADERS;
+		}
+		String[] headers = new String[allowed.size() * 2];
+		for (int i = 0; i < allowed.size(); i++) {
+			String name = allowed.get(i);
+			headers[i * 2] = name;
+			headers[i * 2 + 1] = httpHeaders.getFirst(name);
+		}
+		return headers;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
@@ -21,8 +21,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springblade.core.jwt.JwtUtil;
+import org.springblade.gateway.props.RequestLogProperties;
 import org.springblade.gateway.provider.AuthProvider;
 import org.springblade.gateway.provider.RequestProvider;
+import org.springblade.gateway.support.JwtClaimsCache;
 import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -54,9 +56,15 @@ import java.util.List;
 @ConditionalOnProperty(value = "blade.log.request.enabled", havingValue = "true", matchIfMissing = true)
 public class GlobalRequestLogFilter implements GlobalFilter, Ordered {
 	private final WebEndpointProperties endpointProperties;
+	private final RequestLogProperties requestLogProperties;
+	private final JwtClaimsCache jwtClaimsCache;
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		// 异步模式由 GlobalAccessLogFilter 记录
+		if (requestLogProperties.isAsync()) {
+			return chain.filter(exchange);
+		}
 		ServerHttpRequest request = exchange.getRequest();
 		// 打印请求路径
 		String path = request.getPath().pathWithinApplication().value();
@@ -89,7 +97,7 @@ public class GlobalRequestLogFilter implements GlobalFilter, Ordered {
 			if (AuthProvider.AUTH_KEY.toLowerCase().equals(headerName)) {
 				String value = headerValue.get(0);
 				String token = JwtUtil.getToken(value);
-				Claims claims = JwtUtil.parseJWT(token);
+				Claims claims = jwtClaimsCache.getClaims(exchange, token);
 				beforeReqArgs.add((claims == null) ? "" : claims.toString());
 				beforeReqLog.append("===Headers===  {}: {}\n");
 				beforeReqArgs.add(headerName.concat("-original"));
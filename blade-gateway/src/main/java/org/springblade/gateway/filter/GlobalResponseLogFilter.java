@@ -19,6 +19,7 @@ package org.springblade.gateway.filter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springblade.gateway.props.RequestLogProperties;
 import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -47,9 +48,14 @@ import java.util.List;
 @ConditionalOnProperty(value = "blade.log.request.enabled", havingValue = "true", matchIfMissing = true)
 public class GlobalResponseLogFilter implements GlobalFilter, Ordered {
 	private final WebEndpointProperties endpointProperties;
+	private final RequestLogProperties requestLogProperties;
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		// 异步模式由 GlobalAccessLogFilter 记录
+		if (requestLogProperties.isAsync()) {
+			return chain.filter(exchange);
+		}
 		ServerHttpRequest request = exchange.getRequest();
 		// 打印请求路径
 		String path = request.getPath().pathWithinApplication().value();
@@ -0,0 +1,176 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springblade.core.launch.constant.TokenConstant;
+import org.springblade.gateway.props.RateLimitProperties;
+import org.springblade.gateway.provider.ResponseProvider;
+import org.springblade.gateway.support.GatewayRateLimiter;
+import org.springblade.gateway.support.JwtClaimsCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 限流过滤，按租户、客户端、路由三个维度的令牌桶校验
+ * 租户与客户端只取自验签后的令牌，未认证请求按客户端IP单独计数，不占用任何租户的额度
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+	/**
+	 * 被拒绝请求数指标名
+	 */
+	private static final String METRIC_NAME = "blade.gateway.rate-limit.rejected";
+
+	private static final String TENANT = "tenant";
+	private static final String CLIENT = "client";
+	private static final String ROUTE = "route";
+	private static final String ANONYMOUS = "anon";
+
+	private final RateLimitProperties properties;
+	private final GatewayRateLimiter rateLimiter;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Counter> rejectCounters = new ConcurrentHashMap<>();
+
+	public RateLimitFilter(RateLimitProperties properties, GatewayRateLimiter rateLimiter, ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.properties = properties;
+		this.rateLimiter = rateLimiter;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		if (!properties.getEnabled()) {
+			return chain.filter(exchange);
+		}
+		List<GatewayRateLimiter.Key> keys = resolveKeys(exchange);
+		if (keys.isEmpty()) {
+			return chain.filter(exchange);
+		}
+		return rateLimiter.acquire(keys)
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.flatMap(rejected -> {
+				if (!rejected.isPresent()) {
+					return chain.filter(exchange);
+				}
+				String dimension = rejected.get().getDimension();
+				rejectCounters.computeIfAbsent(dimension, key -> meterRegistry.counter(METRIC_NAME, "dimension", key)).increment();
+				return tooManyRequests(exchange.getResponse());
+			});
+	}
+
+	private List<GatewayRateLimiter.Key> resolveKeys(ServerWebExchange exchange) {
+		List<GatewayRateLimiter.Key> keys = new ArrayList<>(3);
+		Claims claims = exchange.getAttribute(JwtClaimsCache.CLAIMS_ATTR);
+		if (claims == null) {
+			String clientIp = clientIp(exchange);
+			RateLimitProperties.Rule rule = properties.getAnonymous();
+			if (clientIp != null && rule != null) {
+				keys.add(new GatewayRateLimiter.Key(ANONYMOUS, clientIp, rule));
+			}
+		} else {
+			String tenantId = claims.get(TokenConstant.TENANT_ID, String.class);
+			if (StringUtils.isNotBlank(tenantId)) {
+				RateLimitProperties.Rule rule = properties.getTenants().getOrDefault(tenantId, properties.getTenant());
+				if (rule != null) {
+					keys.add(new GatewayRateLimiter.Key(TENANT, tenantId, rule));
+				}
+			}
+			String clientId = claims.get(TokenConstant.CLIENT_ID, String.class);
+			if (StringUtils.isNotBlank(clientId)) {
+				RateLimitProperties.Rule rule = properties.getClients().getOrDefault(clientId, properties.getClient());
+				if (rule != null) {
+					keys.add(new GatewayRateLimiter.Key(CLIENT, clientId, rule));
+				}
+			}
+		}
+		Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+		if (route != null) {
+			RateLimitProperties.Rule rule = properties.getRoutes().get(route.getId());
+			if (rule != null) {
+				keys.add(new GatewayRateLimiter.Key(ROUTE, route.getId(), rule));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 取连接的对端地址，不信任可被伪造的转发请求头
+	 */
+	private String clientIp(ServerWebExchange exchange) {
+		InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+		if (remoteAddress == null) {
+			return null;
+		}
+		InetAddress address = remoteAddress.getAddress();
+		return (address == null) ? remoteAddress.getHostString() : address.getHostAddress();
+	}
+
+	private Mono<Void> tooManyRequests(ServerHttpResponse resp) {
+		resp.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+		resp.getHeaders().add("Content-Type", "application/json;charset=UTF-8");
+		String result = "";
+		try {
+			result = objectMapper.writeValueAsString(ResponseProvider.response(HttpStatus.TOO_MANY_REQUESTS.value(), "请求过于频繁,请稍后再试"));
+		} catch (JsonProcessingException e) {
+			log.error(e.getMessage(), e);
+		}
+		DataBuffer buffer = resp.bufferFactory().wrap(result.getBytes(StandardCharsets.UTF_8));
+		return resp.writeWith(Flux.just(buffer));
+	}
+
+	@Override
+	public int getOrder() {
+		return -99;
+	}
+
+}
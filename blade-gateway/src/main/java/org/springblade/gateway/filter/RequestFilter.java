@@ -5,13 +5,9 @@ import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
-
 import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
 import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.addOriginalRequestUrl;
 
@@ -37,22 +33,66 @@ public class RequestFilter implements GlobalFilter, Ordered {
 	 */
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-		// 1. 清洗请求头中from 参数
-		ServerHttpRequest request = exchange.getRequest().mutate()
-			.headers(httpHeaders -> httpHeaders.remove("X"))
-			.build();
-
-		// 2. 重写StripPrefix
+		ServerHttpRequest request = exchange.getRequest();
 		addOriginalRequestUrl(exchange, request.getURI());
-		String rawPath = request.getURI().getRawPath();
-		String newPath = "/" + Arrays.stream(StringUtils.tokenizeToStringArray(rawPath, "/"))
-			.skip(1L).collect(Collectors.joining("/"));
+
+		// 1. 清洗请求头中from 参数 2. 重写StripPrefix，一次性完成
 		ServerHttpRequest newRequest = request.mutate()
-			.path(newPath)
+			.headers(httpHeaders -> httpHeaders.remove("X"))
+			.path(stripPrefix(request.getURI().getRawPath()))
 			.build();
 		exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, newRequest.getURI());
 
-		return chain.filter(exchange.mutate().request(newRequest.mutate().build()).build());
+		return chain.filter(exchange.mutate().request(newRequest).build());
+	}
+
+	/**
+	 * 去掉路径的第一段，等价于按 "/" 分词(忽略空段)后跳过第一段再以 "/" 拼接。
+	 * 常规路径直接截取子串，仅在含有连续 "/"、结尾 "/" 或空白字符时才逐段重建。
+	 *
+	 * @param rawPath 原始路径
+	 * @return 新路径
+	 */
+	static String stripPrefix(String rawPath) {
+		int length = rawPath.length();
+		boolean clean = length > 1 && rawPath.charAt(0) == '/' && rawPath.charAt(length - 1) != '/';
+		int second = -1;
+		for (int i = 1; clean && i < length; i++) {
+			char c = rawPath.charAt(i);
+			if (c == '/') {
+				if (rawPath.charAt(i - 1) == '/') {
+					clean = false;
+				} else if (second < 0) {
+					second = i;
+				}
+			} else if (Character.isWhitespace(c)) {
+				clean = false;
+			}
+		}
+		if (clean) {
+			return second < 0 ? "/" : rawPath.substring(second);
+		}
+		StringBuilder path = new StringBuilder(length);
+		boolean first = true;
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			if (i == length || rawPath.charAt(i) == '/') {
+				if (start >= 0) {
+					String segment = rawPath.substring(start, i).trim();
+					if (!segment.isEmpty()) {
+						if (first) {
+							first = false;
+						} else {
+							path.append('/').append(segment);
+						}
+					}
+					start = -1;
+				}
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+		return path.length() == 0 ? "/" : path.toString();
 	}
 
 	@Override
@@ -38,4 +38,14 @@ public class AuthProperties {
 	 */
 	private final List<String> skipUrl = new ArrayList<>();
 
+	/**
+	 * 禁止访问API集合，按带服务名的原始路径以 Ant 风格匹配
+	 */
+	private final List<String> denyUrl = new ArrayList<>();
+
+	/**
+	 * 从禁止访问中排除的API集合
+	 */
+	private final List<String> denyExcludeUrl = new ArrayList<>();
+
 }
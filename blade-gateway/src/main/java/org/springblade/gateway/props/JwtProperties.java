@@ -0,0 +1,53 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 令牌验签配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.secure.jwt")
+public class JwtProperties {
+
+	/**
+	 * 签名算法，需与认证服务一致，HS256 使用共享密钥，RS256、ES256 使用 JWK 公钥本地验签
+	 */
+	private String algorithm = "HS256";
+
+	/**
+	 * JWK 公钥地址，服务名形式的地址通过负载均衡访问
+	 */
+	private String jwkSetUri = "http://blade-auth/oauth/jwks";
+
+	/**
+	 * 公钥定时刷新间隔
+	 */
+	private Duration refreshInterval = Duration.ofMinutes(5);
+
+	/**
+	 * 遇到未知kid时触发刷新的最小间隔，避免伪造令牌频繁触发远程调用
+	 */
+	private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+}
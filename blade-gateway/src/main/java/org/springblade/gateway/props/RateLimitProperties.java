@@ -0,0 +1,108 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 网关限流配置
+ *
+ * @author Chill
+ */
+@Data
+@RefreshScope
+@ConfigurationProperties("blade.secure.rate-limit")
+public class RateLimitProperties {
+
+	/**
+	 * 是否开启
+	 */
+	private Boolean enabled = false;
+
+	/**
+	 * 限流模式
+	 */
+	private Mode mode = Mode.MEMORY;
+
+	/**
+	 * 每个租户的默认限流规则，为空则不限制
+	 */
+	private Rule tenant;
+
+	/**
+	 * 每个客户端的默认限流规则，为空则不限制
+	 */
+	private Rule client;
+
+	/**
+	 * 未认证请求按客户端IP的默认限流规则，为空则不限制
+	 */
+	private Rule anonymous;
+
+	/**
+	 * 按租户id单独配置的限流规则
+	 */
+	private final Map<String, Rule> tenants = new HashMap<>();
+
+	/**
+	 * 按客户端id单独配置的限流规则
+	 */
+	private final Map<String, Rule> clients = new HashMap<>();
+
+	/**
+	 * 按路由id配置的限流规则
+	 */
+	private final Map<String, Rule> routes = new HashMap<>();
+
+	/**
+	 * 限流规则
+	 */
+	@Data
+	public static class Rule {
+
+		/**
+		 * 每秒补充的令牌数
+		 */
+		private Long replenishRate = 100L;
+
+		/**
+		 * 令牌桶容量
+		 */
+		private Long burstCapacity = 200L;
+
+	}
+
+	/**
+	 * 限流模式
+	 */
+	public enum Mode {
+		/**
+		 * 单节点内存计数
+		 */
+		MEMORY,
+		/**
+		 * Redis 计数，多节点共享
+		 */
+		REDIS
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 网关请求日志配置
+ *
+ * @author Chill
+ */
+@Data
+@RefreshScope
+@ConfigurationProperties("blade.log.request")
+public class RequestLogProperties {
+
+	/**
+	 * 是否开启
+	 */
+	private Boolean enabled = true;
+
+	/**
+	 * 日志模式
+	 */
+	private Mode mode = Mode.DETAIL;
+
+	/**
+	 * 异步模式下缓冲区大小，向上取整为2的幂
+	 */
+	private Integer bufferSize = 8192;
+
+	/**
+	 * 默认采样率，取值 0~1
+	 */
+	private Double sampleRate = 1.0D;
+
+	/**
+	 * 按路由id配置的采样率，取值 0~1
+	 */
+	private final Map<String, Double> routeSampleRates = new HashMap<>();
+
+	/**
+	 * 异步模式下需要记录的请求头
+	 */
+	private final List<String> headers = new ArrayList<>();
+
+	/**
+	 * 是否为异步模式
+	 */
+	public boolean isAsync() {
+		return mode == Mode.ASYNC;
+	}
+
+	/**
+	 * 日志模式
+	 */
+	public enum Mode {
+		/**
+		 * 同步打印完整请求、响应及请求头
+		 */
+		DETAIL,
+		/**
+		 * 采样记录结构化日志，由后台线程异步输出
+		 */
+		ASYNC
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 令牌解析缓存配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.secure.token-cache")
+public class TokenCacheProperties {
+
+	/**
+	 * 是否开启
+	 */
+	private Boolean enabled = true;
+
+	/**
+	 * 最大缓存数量
+	 */
+	private Long maximumSize = 10000L;
+
+	/**
+	 * 最长缓存时间，令牌未声明过期时间时使用
+	 */
+	private Duration maxTtl = Duration.ofHours(1);
+
+}
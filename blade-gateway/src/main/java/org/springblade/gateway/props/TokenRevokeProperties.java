@@ -0,0 +1,58 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 令牌吊销配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.secure.token-revoke")
+public class TokenRevokeProperties {
+
+	/**
+	 * 是否开启
+	 */
+	private Boolean enabled = true;
+
+	/**
+	 * 增量同步间隔
+	 */
+	private Duration syncInterval = Duration.ofSeconds(1);
+
+	/**
+	 * 本地吊销记录保留时间，应与认证服务一致
+	 */
+	private Duration retention = Duration.ofDays(7);
+
+	/**
+	 * 布隆过滤器预期容量
+	 */
+	private Integer expectedInsertions = 100000;
+
+	/**
+	 * 布隆过滤器误判率
+	 */
+	private Double fpp = 0.01;
+
+}
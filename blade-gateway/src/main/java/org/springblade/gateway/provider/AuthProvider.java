@@ -32,11 +32,14 @@ public class AuthProvider {
 	public static String REPLACEMENT = "";
 	public static String AUTH_KEY = TokenConstant.HEADER;
 	private static List<String> defaultSkipUrl = new ArrayList<>();
+	private static List<String> defaultDenyUrl = new ArrayList<>();
+	private static List<String> defaultDenyExcludeUrl = new ArrayList<>();
 
 	static {
 		defaultSkipUrl.add("/example");
 		defaultSkipUrl.add("/oauth/token/**");
 		defaultSkipUrl.add("/oauth/captcha/**");
+		defaultSkipUrl.add("/oauth/jwks");
 		defaultSkipUrl.add("/oauth/user-info");
 		defaultSkipUrl.add("/token/**");
 		defaultSkipUrl.add("/actuator/health/**");
@@ -53,6 +56,15 @@ public class AuthProvider {
 		defaultSkipUrl.add("/manager/check-upload");
 		defaultSkipUrl.add("/error/**");
 		defaultSkipUrl.add("/assets/**");
+		// 各服务 Feign 接口统一位于 /client 下，仅供服务间调用
+		defaultDenyUrl.add("/*/client/**");
+		// 客户端管理界面的接口同样位于 /client 下，需要放行
+		defaultDenyExcludeUrl.add("/blade-system/client/detail");
+		defaultDenyExcludeUrl.add("/blade-system/client/list");
+		defaultDenyExcludeUrl.add("/blade-system/client/save");
+		defaultDenyExcludeUrl.add("/blade-system/client/update");
+		defaultDenyExcludeUrl.add("/blade-system/client/submit");
+		defaultDenyExcludeUrl.add("/blade-system/client/remove");
 	}
 
 	/**
@@ -62,4 +74,18 @@ public class AuthProvider {
 		return defaultSkipUrl;
 	}
 
+	/**
+	 * 默认禁止从网关访问的API
+	 */
+	public static List<String> getDefaultDenyUrl() {
+		return defaultDenyUrl;
+	}
+
+	/**
+	 * 默认从禁止访问中排除的API
+	 */
+	public static List<String> getDefaultDenyExcludeUrl() {
+		return defaultDenyExcludeUrl;
+	}
+
 }
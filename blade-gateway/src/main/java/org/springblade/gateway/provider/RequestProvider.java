@@ -46,4 +46,18 @@ public class RequestProvider {
 		return UriComponentsBuilder.fromPath(requestUri.getRawPath()).queryParams(queryParams).build().toUriString();
 	}
 
+	/**
+	 * 获取原始请求路径，不含查询参数
+	 *
+	 * @param exchange
+	 * @return
+	 */
+	public static String getOriginalRequestPath(ServerWebExchange exchange) {
+		LinkedHashSet<URI> uris = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+		if (uris != null && !uris.isEmpty()) {
+			return uris.iterator().next().getRawPath();
+		}
+		return exchange.getRequest().getURI().getRawPath();
+	}
+
 }
@@ -0,0 +1,71 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 网关访问日志记录
+ *
+ * @author Chill
+ */
+@Getter
+@AllArgsConstructor
+public class AccessLogRecord {
+
+	/**
+	 * 请求方法
+	 */
+	private final String method;
+
+	/**
+	 * 原始请求路径
+	 */
+	private final String path;
+
+	/**
+	 * 路由id
+	 */
+	private final String routeId;
+
+	/**
+	 * 响应状态码
+	 */
+	private final int status;
+
+	/**
+	 * 耗时(毫秒)
+	 */
+	private final long latency;
+
+	/**
+	 * 租户id
+	 */
+	private final String tenantId;
+
+	/**
+	 * 客户端id
+	 */
+	private final String clientId;
+
+	/**
+	 * 白名单请求头，按 name, value 依次存放
+	 */
+	private final String[] headers;
+
+}
@@ -0,0 +1,101 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 多生产者、单消费者的无锁环形缓冲区
+ *
+ * <p>
+ * 生产者通过 CAS 抢占写入位置，缓冲区满时直接丢弃并计数，不阻塞请求线程；
+ * 只允许一个消费者线程调用 {@link #poll()}。
+ * </p>
+ *
+ * @author Chill
+ */
+public class AccessLogRingBuffer<E> {
+
+	private final AtomicReferenceArray<E> slots;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private final LongAdder dropped = new LongAdder();
+	private volatile long head;
+
+	public AccessLogRingBuffer(int capacity) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * 写入，缓冲区已满时丢弃
+	 *
+	 * @param element 元素
+	 * @return 是否写入成功
+	 */
+	public boolean offer(E element) {
+		while (true) {
+			long current = tail.get();
+			if (current - head > mask) {
+				dropped.increment();
+				return false;
+			}
+			if (tail.compareAndSet(current, current + 1)) {
+				slots.lazySet((int) current & mask, element);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 读取，仅限单个消费者线程调用
+	 *
+	 * @return 元素，暂无数据返回 null
+	 */
+	public E poll() {
+		long current = head;
+		int index = (int) current & mask;
+		E element = slots.get(index);
+		if (element == null) {
+			return null;
+		}
+		slots.lazySet(index, null);
+		head = current + 1;
+		return element;
+	}
+
+	/**
+	 * 当前积压数量
+	 */
+	public long size() {
+		return Math.max(0L, tail.get() - head);
+	}
+
+	/**
+	 * 累计丢弃数量
+	 */
+	public long dropped() {
+		return dropped.sum();
+	}
+
+}
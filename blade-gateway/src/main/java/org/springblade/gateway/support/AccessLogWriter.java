@@ -0,0 +1,133 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.gateway.props.RequestLogProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 网关访问日志异步输出
+ *
+ * <p>
+ * 请求线程只负责把 {@link AccessLogRecord} 放入环形缓冲区，由后台线程统一格式化并输出单行日志。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "blade.log.request.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogWriter implements InitializingBean, DisposableBean, Runnable {
+
+	/**
+	 * 缓冲区为空时的休眠时间
+	 */
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private final AccessLogRingBuffer<AccessLogRecord> buffer;
+	private final Thread worker;
+	private volatile boolean running = true;
+
+	public AccessLogWriter(RequestLogProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.buffer = new AccessLogRingBuffer<>(properties.getBufferSize());
+		this.worker = new Thread(this, "blade-access-log");
+		this.worker.setDaemon(true);
+		meterRegistry.ifAvailable(registry -> {
+			Gauge.builder("blade.gateway.access-log.pending", buffer, AccessLogRingBuffer::size).register(registry);
+			FunctionCounter.builder("blade.gateway.access-log.dropped", buffer, AccessLogRingBuffer::dropped).register(registry);
+		});
+	}
+
+	/**
+	 * 提交访问日志，缓冲区已满时丢弃
+	 *
+	 * @param record 访问日志
+	 */
+	public void submit(AccessLogRecord record) {
+		buffer.offer(record);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		worker.start();
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		running = false;
+		LockSupport.unpark(worker);
+		worker.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	@Override
+	public void run() {
+		StringBuilder line = new StringBuilder(256);
+		while (running) {
+			if (!drain(line)) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			}
+		}
+		drain(line);
+	}
+
+	/**
+	 * 输出缓冲区中的全部日志
+	 *
+	 * @return 是否有输出
+	 */
+	private boolean drain(StringBuilder line) {
+		boolean written = false;
+		AccessLogRecord record;
+		while ((record = buffer.poll()) != null) {
+			try {
+				line.setLength(0);
+				log.info("{}", format(line, record));
+			} catch (Exception e) {
+				log.error(e.getMessage(), e);
+			}
+			written = true;
+		}
+		return written;
+	}
+
+	private static String format(StringBuilder line, AccessLogRecord record) {
+		line.append("method=").append(record.getMethod())
+			.append(" path=").append(record.getPath())
+			.append(" route=").append(record.getRouteId())
+			.append(" status=").append(record.getStatus())
+			.append(" latency=").append(record.getLatency()).append("ms")
+			.append(" tenant=").append(record.getTenantId())
+			.append(" client=").append(record.getClientId());
+		String[] headers = record.getHeaders();
+		for (int i = 0; i + 1 < headers.length; i += 2) {
+			line.append(' ').append(headers[i]).append('=').append(headers[i + 1]);
+		}
+		return line.toString();
+	}
+
+}
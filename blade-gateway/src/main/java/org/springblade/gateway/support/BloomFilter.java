@@ -0,0 +1,116 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 布隆过滤器
+ *
+ * <p>
+ * 位数组基于 {@link AtomicLongArray}，写入与查询均无锁；采用双重哈希生成 k 个位置。
+ * 不支持删除，需要剔除元素时整体重建。
+ * </p>
+ *
+ * @author Chill
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 预期容量
+	 * @param fpp                误判率
+	 */
+	public BloomFilter(int expectedInsertions, double fpp) {
+		int n = Math.max(1, expectedInsertions);
+		double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+		long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1L, (m + 63) >>> 6);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long) words << 6;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+	}
+
+	/**
+	 * 写入元素
+	 *
+	 * @param value 元素
+	 */
+	public void put(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	/**
+	 * 元素是否可能存在，返回 false 时一定不存在
+	 *
+	 * @param value 元素
+	 * @return boolean
+	 */
+	public boolean mightContain(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitSize;
+	}
+
+	/**
+	 * 64位 FNV-1a 哈希，再经 murmur3 终结函数打散
+	 */
+	private static long hash(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		long h = 0xcbf29ce484222325L;
+		for (byte b : bytes) {
+			h ^= b;
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb93e10547ee5L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+}
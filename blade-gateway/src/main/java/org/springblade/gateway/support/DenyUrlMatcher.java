@@ -0,0 +1,149 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.gateway.props.AuthProperties;
+import org.springblade.gateway.provider.AuthProvider;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.util.UriUtils;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 禁止访问API匹配器
+ *
+ * <p>
+ * 默认禁止各服务 /client 下仅供服务间调用的内部API，可通过 blade.secure.deny-url 追加、blade.secure.deny-exclude-url 放行，
+ * 均以 Ant 风格按带服务名的原始请求路径匹配。
+ * 匹配前先解码并规范化路径，避免通过编码、矩阵参数或 ".." 绕过。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DenyUrlMatcher {
+
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final AuthProperties authProperties;
+
+	private volatile List<String> denyUrl = Collections.emptyList();
+
+	private volatile List<String> denyExcludeUrl = Collections.emptyList();
+
+	@PostConstruct
+	public void init() {
+		rebuild();
+	}
+
+	/**
+	 * 配置刷新后重建
+	 */
+	@EventListener(RefreshScopeRefreshedEvent.class)
+	public void onRefresh() {
+		rebuild();
+	}
+
+	/**
+	 * 重新加载禁止访问API
+	 */
+	public void rebuild() {
+		this.denyUrl = merge(AuthProvider.getDefaultDenyUrl(), authProperties.getDenyUrl());
+		this.denyExcludeUrl = merge(AuthProvider.getDefaultDenyExcludeUrl(), authProperties.getDenyExcludeUrl());
+		log.debug("deny url matcher rebuilt, {} patterns, {} excludes", denyUrl.size(), denyExcludeUrl.size());
+	}
+
+	/**
+	 * 是否禁止访问
+	 *
+	 * @param rawPath 原始请求路径(未解码)
+	 * @return boolean
+	 */
+	public boolean isDeny(String rawPath) {
+		List<String> deny = this.denyUrl;
+		if (deny.isEmpty() || rawPath == null) {
+			return false;
+		}
+		String path = normalize(rawPath);
+		return matchAny(deny, path) && !matchAny(this.denyExcludeUrl, path);
+	}
+
+	private static boolean matchAny(List<String> patterns, String path) {
+		for (String pattern : patterns) {
+			if (PATH_MATCHER.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<String> merge(List<String> defaults, List<String> configured) {
+		List<String> patterns = new ArrayList<>(defaults);
+		patterns.addAll(configured);
+		return Collections.unmodifiableList(patterns);
+	}
+
+	/**
+	 * 解码后去除矩阵参数、空段与 "."，并处理 ".."，与下游服务解析路径的方式保持一致
+	 *
+	 * @param rawPath 原始请求路径
+	 * @return 规范化后的路径
+	 */
+	static String normalize(String rawPath) {
+		if (rawPath == null) {
+			return null;
+		}
+		String path;
+		try {
+			path = UriUtils.decode(rawPath, StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			path = rawPath;
+		}
+		List<String> segments = new ArrayList<>();
+		for (String segment : path.split("/")) {
+			int index = segment.indexOf(';');
+			if (index >= 0) {
+				segment = segment.substring(0, index);
+			}
+			segment = segment.trim();
+			if (segment.isEmpty() || ".".equals(segment)) {
+				continue;
+			}
+			if ("..".equals(segment)) {
+				if (!segments.isEmpty()) {
+					segments.remove(segments.size() - 1);
+				}
+				continue;
+			}
+			segments.add(segment);
+		}
+		return "/" + String.join("/", segments);
+	}
+
+}
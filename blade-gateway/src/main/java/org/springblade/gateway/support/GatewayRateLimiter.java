@@ -0,0 +1,160 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.gateway.props.RateLimitProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关限流器
+ *
+ * <p>
+ * 内存模式下令牌桶存放于分段的并发缓存中，无锁扣减；Redis 模式下通过脚本在 Redis 内原子扣减，多节点共享额度。
+ * Redis 不可用时放行，避免限流组件本身成为故障点。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class GatewayRateLimiter {
+
+	/**
+	 * Redis 中令牌桶的key前缀
+	 */
+	private static final String REDIS_KEY_PREFIX = "blade:gateway:rate-limit:";
+
+	private final RateLimitProperties properties;
+	private final ObjectProvider<ReactiveStringRedisTemplate> redisTemplate;
+	private final RedisScript<Long> script = RedisScript.of(new ClassPathResource("scripts/blade_rate_limiter.lua"), Long.class);
+	private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+		.expireAfterAccess(10, TimeUnit.MINUTES)
+		.build();
+
+	public GatewayRateLimiter(RateLimitProperties properties, ObjectProvider<ReactiveStringRedisTemplate> redisTemplate) {
+		this.properties = properties;
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 尝试从全部令牌桶各取一个令牌，任一令牌桶拒绝时都不扣减
+	 *
+	 * @param keys 限流key
+	 * @return 被拒绝的限流key，全部通过时为空
+	 */
+	public Mono<Key> acquire(List<Key> keys) {
+		if (keys.isEmpty()) {
+			return Mono.empty();
+		}
+		if (properties.getMode() == RateLimitProperties.Mode.REDIS) {
+			return acquireRedis(keys);
+		}
+		long now = System.nanoTime();
+		TokenBucket[] acquired = new TokenBucket[keys.size()];
+		for (int i = 0; i < keys.size(); i++) {
+			TokenBucket bucket = bucket(keys.get(i));
+			if (!bucket.tryAcquire(now)) {
+				// 归还前面维度已扣减的令牌
+				for (int j = 0; j < i; j++) {
+					acquired[j].release();
+				}
+				return Mono.just(keys.get(i));
+			}
+			acquired[i] = bucket;
+		}
+		return Mono.empty();
+	}
+
+	private TokenBucket bucket(Key key) {
+		String id = key.getId();
+		TokenBucket bucket = buckets.get(id, k -> new TokenBucket(key.getRule()));
+		if (!bucket.isFor(key.getRule())) {
+			// 规则已刷新，按新规则重建令牌桶
+			bucket = new TokenBucket(key.getRule());
+			buckets.put(id, bucket);
+		}
+		return bucket;
+	}
+
+	/**
+	 * 全部令牌桶在一次脚本调用中校验并扣减，脚本涉及多个key，Redis 集群下需保证这些key位于同一节点
+	 */
+	private Mono<Key> acquireRedis(List<Key> keys) {
+		ReactiveStringRedisTemplate template = redisTemplate.getIfAvailable();
+		if (template == null) {
+			return Mono.empty();
+		}
+		List<String> redisKeys = new ArrayList<>(keys.size());
+		List<String> args = new ArrayList<>(keys.size() * 2);
+		for (Key key : keys) {
+			RateLimitProperties.Rule rule = key.getRule();
+			long interval = TimeUnit.SECONDS.toMicros(1) / Math.max(1L, rule.getReplenishRate());
+			long tolerance = interval * Math.max(1L, rule.getBurstCapacity());
+			redisKeys.add(REDIS_KEY_PREFIX + key.getId());
+			args.add(String.valueOf(interval));
+			args.add(String.valueOf(tolerance));
+		}
+		return template.execute(script, redisKeys, args)
+			.next()
+			.onErrorResume(e -> {
+				log.error("rate limiter redis error: {}", e.getMessage());
+				return Mono.empty();
+			})
+			.filter(rejected -> rejected > 0L && rejected <= keys.size())
+			.map(rejected -> keys.get(rejected.intValue() - 1));
+	}
+
+	/**
+	 * 限流key
+	 */
+	public static class Key {
+		private final String dimension;
+		private final String value;
+		private final RateLimitProperties.Rule rule;
+
+		public Key(String dimension, String value, RateLimitProperties.Rule rule) {
+			this.dimension = dimension;
+			this.value = value;
+			this.rule = rule;
+		}
+
+		public String getDimension() {
+			return dimension;
+		}
+
+		public String getId() {
+			return dimension + ":" + value;
+		}
+
+		public RateLimitProperties.Rule getRule() {
+			return rule;
+		}
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.common.utils.JwkUtil;
+import org.springblade.gateway.props.JwtProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancerExchangeFilterFunction;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWK 公钥缓存
+ *
+ * <p>
+ * 非对称签名模式下从认证服务拉取公钥并按kid缓存，验签全部在本地完成。公钥定时刷新，
+ * 遇到未知kid时异步触发一次刷新(受最小间隔限制)，该令牌本次被拒绝。
+ * 轮换密钥时认证服务先发布新公钥，待各节点刷新后再切换签名私钥，旧公钥保留至旧令牌过期。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class JwkSetCache extends SigningKeyResolverAdapter implements InitializingBean, DisposableBean {
+
+	private final JwtProperties properties;
+	private final WebClient webClient;
+	private final AtomicLong lastRefresh = new AtomicLong();
+
+	private volatile Map<String, Key> keys = Collections.emptyMap();
+	private Disposable subscription;
+
+	public JwkSetCache(JwtProperties properties, ObjectProvider<LoadBalancerExchangeFilterFunction> loadBalancer) {
+		this.properties = properties;
+		WebClient.Builder builder = WebClient.builder();
+		loadBalancer.ifAvailable(builder::filter);
+		this.webClient = builder.build();
+	}
+
+	/**
+	 * 是否为非对称签名模式
+	 */
+	public boolean isEnabled() {
+		return !"HS256".equalsIgnoreCase(properties.getAlgorithm());
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!isEnabled()) {
+			return;
+		}
+		subscription = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+			.onBackpressureDrop()
+			.concatMap(tick -> refresh())
+			.subscribe();
+	}
+
+	@Override
+	public void destroy() {
+		if (subscription != null) {
+			subscription.dispose();
+		}
+	}
+
+	@Override
+	public Key resolveSigningKey(JwsHeader header, Claims claims) {
+		if (!properties.getAlgorithm().equalsIgnoreCase(header.getAlgorithm())) {
+			throw new UnsupportedJwtException("Unexpected jwt algorithm: " + header.getAlgorithm());
+		}
+		Key key = keys.get(header.getKeyId());
+		if (key == null) {
+			long now = System.currentTimeMillis();
+			long last = lastRefresh.get();
+			if (now - last >= properties.getMinRefreshInterval().toMillis() && lastRefresh.compareAndSet(last, now)) {
+				refresh().subscribe();
+			}
+			throw new UnsupportedJwtException("Unknown jwt key: " + header.getKeyId());
+		}
+		return key;
+	}
+
+	private Mono<Void> refresh() {
+		lastRefresh.set(System.currentTimeMillis());
+		return webClient.get()
+			.uri(properties.getJwkSetUri())
+			.retrieve()
+			.bodyToMono(new ParameterizedTypeReference<Map<String, List<Map<String, Object>>>>() {
+			})
+			.doOnNext(this::apply)
+			.onErrorResume(e -> {
+				log.error("jwk set refresh error: {}", e.getMessage());
+				return Mono.empty();
+			})
+			.then();
+	}
+
+	private void apply(Map<String, List<Map<String, Object>>> jwkSet) {
+		List<Map<String, Object>> jwks = jwkSet.get(JwkUtil.KEYS);
+		if (jwks == null || jwks.isEmpty()) {
+			log.warn("jwk set is empty, keep {} cached keys", keys.size());
+			return;
+		}
+		Map<String, Key> refreshed = new HashMap<>(jwks.size() * 2);
+		for (Map<String, Object> jwk : jwks) {
+			try {
+				refreshed.put(String.valueOf(jwk.get(JwkUtil.KEY_ID)), JwkUtil.toPublicKey(jwk));
+			} catch (IllegalArgumentException e) {
+				log.warn("skip jwk {}: {}", jwk.get(JwkUtil.KEY_ID), e.getMessage());
+			}
+		}
+		if (!refreshed.keySet().equals(keys.keySet())) {
+			log.info("jwk set refreshed, kids: {}", refreshed.keySet());
+		}
+		this.keys = refreshed;
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.lang3.StringUtils;
+import org.springblade.core.jwt.JwtUtil;
+import org.springblade.gateway.props.TokenCacheProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌解析缓存
+ *
+ * <p>
+ * 验签通过的 Claims 按令牌缓存至其过期时间，同一令牌的后续请求不再重复验签与解码。
+ * 解析结果同时挂在 exchange 属性上，供同一请求内的其他过滤器复用。
+ * 非对称签名模式下使用 {@link JwkSetCache} 中的公钥本地验签。
+ * </p>
+ *
+ * @author Chill
+ */
+@Component
+public class JwtClaimsCache {
+
+	/**
+	 * exchange 中缓存 Claims 的属性名
+	 */
+	public static final String CLAIMS_ATTR = JwtClaimsCache.class.getName() + ".claims";
+
+	/**
+	 * 监控指标名
+	 */
+	private static final String METRIC_NAME = "blade.gateway.token";
+
+	private final TokenCacheProperties properties;
+	private final JwkSetCache jwkSetCache;
+	private final Cache<String, Claims> cache;
+
+	public JwtClaimsCache(TokenCacheProperties properties, JwkSetCache jwkSetCache, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.properties = properties;
+		this.jwkSetCache = jwkSetCache;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.getMaximumSize())
+			.expireAfter(new ClaimsExpiry(properties.getMaxTtl().toNanos()))
+			.recordStats()
+			.build();
+		meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, METRIC_NAME));
+	}
+
+	/**
+	 * 获取当前请求的 Claims，优先读取 exchange 属性，其次读取缓存，最后验签解析
+	 *
+	 * @param exchange exchange
+	 * @param token    令牌(不含前缀)
+	 * @return Claims，验签失败返回 null
+	 */
+	public Claims getClaims(ServerWebExchange exchange, String token) {
+		Claims claims = exchange.getAttribute(CLAIMS_ATTR);
+		if (claims != null) {
+			return claims;
+		}
+		claims = getClaims(token);
+		if (claims != null) {
+			exchange.getAttributes().put(CLAIMS_ATTR, claims);
+		}
+		return claims;
+	}
+
+	/**
+	 * 获取令牌对应的 Claims
+	 *
+	 * @param token 令牌(不含前缀)
+	 * @return Claims，验签失败返回 null
+	 */
+	public Claims getClaims(String token) {
+		if (StringUtils.isBlank(token)) {
+			return null;
+		}
+		if (!properties.getEnabled()) {
+			return parse(token);
+		}
+		// 解析失败时返回 null，Caffeine 不会缓存
+		return cache.get(token, this::parse);
+	}
+
+	/**
+	 * 验签并解析令牌
+	 *
+	 * @param token 令牌(不含前缀)
+	 * @return Claims，验签失败返回 null
+	 */
+	private Claims parse(String token) {
+		if (!jwkSetCache.isEnabled()) {
+			return JwtUtil.parseJWT(token);
+		}
+		try {
+			return Jwts.parser().setSigningKeyResolver(jwkSetCache).parseClaimsJws(token).getBody();
+		} catch (Exception ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * 按令牌过期时间计算缓存时长
+	 */
+	private static class ClaimsExpiry implements Expiry<String, Claims> {
+		private final long maxTtlNanos;
+
+		private ClaimsExpiry(long maxTtlNanos) {
+			this.maxTtlNanos = maxTtlNanos;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Claims value, long currentTime) {
+			Date expiration = value.getExpiration();
+			if (expiration == null) {
+				return maxTtlNanos;
+			}
+			long ttl = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+			return Math.max(0L, Math.min(ttl, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 路径前缀匹配器
+ *
+ * <p>
+ * 将一组前缀预编译为不可变的字典树，匹配时逐字符下行，不产生任何对象分配，耗时只与路径长度相关。
+ * 语义与 {@code path.startsWith(prefix)} 完全一致。
+ * </p>
+ *
+ * @author Chill
+ */
+public final class PathPrefixMatcher {
+
+	private static final char[] EMPTY_KEYS = new char[0];
+	private static final Node[] EMPTY_CHILDREN = new Node[0];
+
+	/**
+	 * 空匹配器
+	 */
+	public static final PathPrefixMatcher EMPTY = new PathPrefixMatcher(new Node(EMPTY_KEYS, EMPTY_CHILDREN, false), 0);
+
+	private final Node root;
+	private final int size;
+
+	private PathPrefixMatcher(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * 编译前缀集合
+	 *
+	 * @param target      需要从前缀中剔除的通配符，如 {@code /**}
+	 * @param replacement 替换值
+	 * @param groups      前缀集合
+	 * @return PathPrefixMatcher
+	 */
+	@SafeVarargs
+	public static PathPrefixMatcher compile(String target, String replacement, Collection<String>... groups) {
+		Builder root = new Builder();
+		int size = 0;
+		for (Collection<String> group : groups) {
+			if (group == null) {
+				continue;
+			}
+			for (String url : group) {
+				if (url == null) {
+					continue;
+				}
+				String prefix = (target == null) ? url : url.replace(target, replacement);
+				Builder node = root;
+				for (int i = 0; i < prefix.length(); i++) {
+					node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Builder());
+				}
+				if (!node.terminal) {
+					node.terminal = true;
+					size++;
+				}
+			}
+		}
+		return size == 0 ? EMPTY : new PathPrefixMatcher(root.freeze(), size);
+	}
+
+	/**
+	 * 判断路径是否以任一前缀开头
+	 *
+	 * @param path 路径
+	 * @return boolean
+	 */
+	public boolean matches(String path) {
+		if (path == null || size == 0) {
+			return false;
+		}
+		Node node = root;
+		if (node.terminal) {
+			return true;
+		}
+		for (int i = 0, len = path.length(); i < len; i++) {
+			node = node.child(path.charAt(i));
+			if (node == null) {
+				return false;
+			}
+			if (node.terminal) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 前缀数量
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 编译期可变节点
+	 */
+	private static final class Builder {
+		private final Map<Character, Builder> children = new TreeMap<>();
+		private boolean terminal;
+
+		private Node freeze() {
+			if (children.isEmpty()) {
+				return new Node(EMPTY_KEYS, EMPTY_CHILDREN, terminal);
+			}
+			char[] keys = new char[children.size()];
+			Node[] nodes = new Node[children.size()];
+			int i = 0;
+			for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+				keys[i] = entry.getKey();
+				nodes[i] = entry.getValue().freeze();
+				i++;
+			}
+			return new Node(keys, nodes, terminal);
+		}
+	}
+
+	/**
+	 * 不可变节点，子节点按字符有序存放，二分查找
+	 */
+	private static final class Node {
+		private final char[] keys;
+		private final Node[] children;
+		private final boolean terminal;
+
+		private Node(char[] keys, Node[] children, boolean terminal) {
+			this.keys = keys;
+			this.children = children;
+			this.terminal = terminal;
+		}
+
+		private Node child(char c) {
+			int index = Arrays.binarySearch(keys, c);
+			return index < 0 ? null : children[index];
+		}
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.gateway.props.AuthProperties;
+import org.springblade.gateway.provider.AuthProvider;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 放行API匹配器
+ *
+ * <p>
+ * 默认放行API与 blade.secure.skip-url 合并编译为一棵前缀树，配置刷新后整体重建并原子替换。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkipUrlMatcher {
+
+	private final AuthProperties authProperties;
+
+	private volatile PathPrefixMatcher matcher = PathPrefixMatcher.EMPTY;
+
+	@PostConstruct
+	public void init() {
+		rebuild();
+	}
+
+	/**
+	 * 配置刷新后重建
+	 */
+	@EventListener(RefreshScopeRefreshedEvent.class)
+	public void onRefresh() {
+		rebuild();
+	}
+
+	/**
+	 * 重新编译放行API
+	 */
+	public void rebuild() {
+		PathPrefixMatcher compiled = PathPrefixMatcher.compile(AuthProvider.TARGET, AuthProvider.REPLACEMENT,
+			AuthProvider.getDefaultSkipUrl(), authProperties.getSkipUrl());
+		this.matcher = compiled;
+		log.debug("skip url matcher rebuilt, {} prefixes", compiled.size());
+	}
+
+	/**
+	 * 是否放行
+	 *
+	 * @param path 请求路径
+	 * @return boolean
+	 */
+	public boolean isSkip(String path) {
+		return matcher.matches(path);
+	}
+
+}
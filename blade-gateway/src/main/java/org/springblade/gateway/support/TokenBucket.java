@@ -0,0 +1,80 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import org.springblade.gateway.props.RateLimitProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁令牌桶
+ *
+ * <p>
+ * 采用 GCRA 算法，只维护一个"理论到达时间"，一次 CAS 即可完成取令牌，与等价的令牌桶行为一致。
+ * </p>
+ *
+ * @author Chill
+ */
+public class TokenBucket {
+
+	private final RateLimitProperties.Rule rule;
+	private final long interval;
+	private final long tolerance;
+	private final AtomicLong tat;
+
+	public TokenBucket(RateLimitProperties.Rule rule) {
+		this.rule = rule;
+		this.interval = TimeUnit.SECONDS.toNanos(1) / Math.max(1L, rule.getReplenishRate());
+		this.tolerance = interval * Math.max(1L, rule.getBurstCapacity());
+		this.tat = new AtomicLong(System.nanoTime());
+	}
+
+	/**
+	 * 桶是否按该规则创建
+	 */
+	public boolean isFor(RateLimitProperties.Rule rule) {
+		return this.rule.equals(rule);
+	}
+
+	/**
+	 * 尝试获取一个令牌
+	 *
+	 * @param now 当前时间 {@link System#nanoTime()}
+	 * @return 是否获取成功
+	 */
+	public boolean tryAcquire(long now) {
+		while (true) {
+			long current = tat.get();
+			long next = Math.max(current, now) + interval;
+			if (next - now > tolerance) {
+				return false;
+			}
+			if (tat.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 归还一个已获取的令牌
+	 */
+	public void release() {
+		tat.addAndGet(-interval);
+	}
+
+}
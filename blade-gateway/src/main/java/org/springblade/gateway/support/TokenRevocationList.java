@@ -0,0 +1,213 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.common.cache.CacheNames;
+import org.springblade.common.constant.CommonConstant;
+import org.springblade.core.launch.constant.TokenConstant;
+import org.springblade.gateway.props.TokenRevokeProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌吊销列表
+ *
+ * <p>
+ * 认证服务将注销与强制下线写入 Redis 有序集合，网关按吊销时间增量拉取到本地：
+ * 令牌ID与会话ID先经布隆过滤器判断，绝大多数未吊销的令牌在此直接放行，命中时再查精确集合；
+ * 强制下线按用户记录吊销时间，签发时间(毫秒)不晚于该时间的令牌均视为失效。请求路径上只有内存查找，没有网络调用。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements InitializingBean, DisposableBean {
+
+	/**
+	 * 增量拉取时向前回溯的时间，容忍认证服务多节点间的时钟偏差
+	 */
+	private static final long CLOCK_SKEW_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+	/**
+	 * 过期记录清理间隔
+	 */
+	private static final long PRUNE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+	private final TokenRevokeProperties properties;
+	private final ObjectProvider<ReactiveStringRedisTemplate> redisTemplate;
+	private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+	private final Map<String, Long> users = new ConcurrentHashMap<>();
+
+	private volatile BloomFilter bloomFilter;
+	private double lastScore = 0D;
+	private long lastPrune = System.currentTimeMillis();
+	private Disposable subscription;
+
+	public TokenRevocationList(TokenRevokeProperties properties, ObjectProvider<ReactiveStringRedisTemplate> redisTemplate,
+							   ObjectProvider<MeterRegistry> meterRegistry) {
+		this.properties = properties;
+		this.redisTemplate = redisTemplate;
+		this.bloomFilter = new BloomFilter(properties.getExpectedInsertions(), properties.getFpp());
+		meterRegistry.ifAvailable(registry -> {
+			Gauge.builder("blade.gateway.token-revoke.size", tokens, Map::size).tag("type", "token").register(registry);
+			Gauge.builder("blade.gateway.token-revoke.size", users, Map::size).tag("type", "user").register(registry);
+		});
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (!properties.getEnabled()) {
+			return;
+		}
+		ReactiveStringRedisTemplate template = redisTemplate.getIfAvailable();
+		if (template == null) {
+			log.warn("token revocation disabled, no reactive redis template");
+			return;
+		}
+		// 单线程串行同步，本地集合与布隆过滤器只有同步线程写入
+		subscription = Flux.interval(Duration.ZERO, properties.getSyncInterval())
+			.onBackpressureDrop()
+			.concatMap(tick -> sync(template))
+			.subscribe();
+	}
+
+	@Override
+	public void destroy() {
+		if (subscription != null) {
+			subscription.dispose();
+		}
+	}
+
+	/**
+	 * 令牌是否已吊销
+	 *
+	 * @param claims 令牌Claims
+	 * @return boolean
+	 */
+	public boolean isRevoked(Claims claims) {
+		if (!properties.getEnabled()) {
+			return false;
+		}
+		if (isRevokedId(claims.getId()) || isRevokedId(claims.get(CommonConstant.TOKEN_SESSION_ID, String.class))) {
+			return true;
+		}
+		if (users.isEmpty()) {
+			return false;
+		}
+		Long revokedAt = users.get(String.valueOf(claims.get(TokenConstant.USER_ID)));
+		if (revokedAt == null) {
+			return false;
+		}
+		// 未携带签发时间的令牌早于吊销机制签发，一并视为失效；与吊销同一毫秒签发的令牌同样失效
+		Long issuedAt = issuedAtMillis(claims);
+		return issuedAt == null || issuedAt <= revokedAt;
+	}
+
+	private boolean isRevokedId(String id) {
+		return id != null && bloomFilter.mightContain(id) && tokens.containsKey(id);
+	}
+
+	/**
+	 * 令牌签发时间(毫秒)，早期令牌只有秒级的 iat，取该秒的最后一毫秒
+	 */
+	private static Long issuedAtMillis(Claims claims) {
+		Object issuedAtMillis = claims.get(CommonConstant.TOKEN_ISSUED_AT_MILLIS);
+		if (issuedAtMillis instanceof Number) {
+			return ((Number) issuedAtMillis).longValue();
+		}
+		Date issuedAt = claims.getIssuedAt();
+		return issuedAt == null ? null : issuedAt.getTime() + 999L;
+	}
+
+	private Mono<Void> sync(ReactiveStringRedisTemplate template) {
+		double from = Math.max(0D, lastScore - CLOCK_SKEW_MILLIS);
+		return template.opsForZSet()
+			.rangeByScoreWithScores(CacheNames.TOKEN_REVOKE_KEY, Range.rightUnbounded(Range.Bound.inclusive(from)))
+			.doOnNext(this::apply)
+			.then(Mono.fromRunnable(this::prune))
+			.onErrorResume(e -> {
+				log.error("token revocation sync error: {}", e.getMessage());
+				return Mono.empty();
+			})
+			.then();
+	}
+
+	private void apply(ZSetOperations.TypedTuple<String> tuple) {
+		String member = tuple.getValue();
+		Double score = tuple.getScore();
+		if (member == null || score == null) {
+			return;
+		}
+		long revokedAt = score.longValue();
+		if (member.startsWith(CacheNames.TOKEN_REVOKE_JTI)) {
+			putRevokedId(member.substring(CacheNames.TOKEN_REVOKE_JTI.length()), revokedAt);
+		} else if (member.startsWith(CacheNames.TOKEN_REVOKE_SESSION)) {
+			// 令牌ID与会话ID均为UUID，共用同一集合与布隆过滤器
+			putRevokedId(member.substring(CacheNames.TOKEN_REVOKE_SESSION.length()), revokedAt);
+		} else if (member.startsWith(CacheNames.TOKEN_REVOKE_USER)) {
+			users.merge(member.substring(CacheNames.TOKEN_REVOKE_USER.length()), revokedAt, Math::max);
+		}
+		lastScore = Math.max(lastScore, score);
+	}
+
+	private void putRevokedId(String id, long revokedAt) {
+		if (tokens.put(id, revokedAt) == null) {
+			bloomFilter.put(id);
+		}
+	}
+
+	/**
+	 * 清理超过保留时间的记录，布隆过滤器不支持删除，清理后或容量不足时整体重建
+	 */
+	private void prune() {
+		long now = System.currentTimeMillis();
+		if (now - lastPrune < PRUNE_INTERVAL_MILLIS) {
+			return;
+		}
+		lastPrune = now;
+		long expireBefore = now - properties.getRetention().toMillis();
+		users.values().removeIf(revokedAt -> revokedAt < expireBefore);
+		boolean removed = tokens.values().removeIf(revokedAt -> revokedAt < expireBefore);
+		int size = tokens.size();
+		if (removed || size > properties.getExpectedInsertions()) {
+			BloomFilter rebuilt = new BloomFilter(Math.max(properties.getExpectedInsertions(), size * 2), properties.getFpp());
+			tokens.keySet().forEach(rebuilt::put);
+			bloomFilter = rebuilt;
+			log.debug("token revocation bloom filter rebuilt, {} tokens", size);
+		}
+	}
+
+}
@@ -0,0 +1,31 @@
+-- 网关限流脚本 (GCRA 令牌桶)
+-- 一次校验请求涉及的全部令牌桶，全部通过才扣减，任一拒绝则都不扣减
+-- KEYS[i] 令牌桶key
+-- ARGV[2i-1] 令牌补充间隔(微秒)
+-- ARGV[2i] 容忍度，即 间隔 * 桶容量(微秒)
+-- 返回 0 表示通过，否则为第一个拒绝的令牌桶序号(从1开始)
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local nexts = {}
+for i = 1, #KEYS do
+    local interval = tonumber(ARGV[i * 2 - 1])
+    local tolerance = tonumber(ARGV[i * 2])
+    local tat = tonumber(redis.call('GET', KEYS[i]))
+    if tat == nil or tat < now then
+        tat = now
+    end
+    local next = tat + interval
+    if next - now > tolerance then
+        return i
+    end
+    nexts[i] = next
+end
+
+for i = 1, #KEYS do
+    local ttl = math.max(1, math.ceil((nexts[i] - now) / 1000))
+    redis.call('SET', KEYS[i], string.format('%.0f', nexts[i]), 'PX', string.format('%d', ttl))
+end
+return 0
@@ -0,0 +1,70 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 网关 StripPrefix 基准测试
+ *
+ * <p>
+ * tokenize 为原先按 "/" 分词、跳过第一段后以流拼接的实现，stripPrefix 为当前实现；
+ * 常规路径走截取子串的快速路径，含连续 "/" 的路径走逐段重建。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main RequestFilterBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestFilterBenchmark {
+
+	@Param({"/blade-system/user/page", "/blade-desk/notice/detail/1123598821738675201", "/blade-system//user/page/"})
+	private String rawPath;
+
+	@Benchmark
+	public String tokenize() {
+		return "/" + Arrays.stream(StringUtils.tokenizeToStringArray(rawPath, "/"))
+			.skip(1L).collect(Collectors.joining("/"));
+	}
+
+	@Benchmark
+	public String stripPrefix() {
+		return RequestFilter.stripPrefix(rawPath);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(RequestFilterBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
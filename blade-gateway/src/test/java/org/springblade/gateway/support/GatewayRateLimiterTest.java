@@ -0,0 +1,166 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import org.junit.*;
+import org.springblade.gateway.props.RateLimitProperties;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Redis 模式网关限流测试
+ *
+ * <p>
+ * 启动内嵌 Redis，直接执行限流脚本，覆盖突发额度、令牌补充、多维度不扣减及并发扣减。
+ * </p>
+ *
+ * @author Chill
+ */
+public class GatewayRateLimiterTest {
+
+	private static RedisServer redisServer;
+	private static LettuceConnectionFactory connectionFactory;
+	private static ReactiveStringRedisTemplate redisTemplate;
+
+	private GatewayRateLimiter rateLimiter;
+
+	@BeforeClass
+	public static void startRedis() throws IOException {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		redisServer = new RedisServer(port);
+		redisServer.start();
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+	}
+
+	@AfterClass
+	public static void stopRedis() throws IOException {
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+		if (redisServer != null) {
+			redisServer.stop();
+		}
+	}
+
+	@Before
+	public void setUp() {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setMode(RateLimitProperties.Mode.REDIS);
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+		beanFactory.addBean("reactiveStringRedisTemplate", redisTemplate);
+		rateLimiter = new GatewayRateLimiter(properties, beanFactory.getBeanProvider(ReactiveStringRedisTemplate.class));
+	}
+
+	@Test
+	public void burstCapacityThenReject() {
+		GatewayRateLimiter.Key key = key(1L, 3L);
+		for (int i = 0; i < 3; i++) {
+			assertNull(acquire(key));
+		}
+		assertSame(key, acquire(key));
+	}
+
+	@Test
+	public void replenishAfterWindowRollover() throws InterruptedException {
+		// 每 100 毫秒补充一个令牌，桶容量为 1
+		GatewayRateLimiter.Key key = key(10L, 1L);
+		assertNull(acquire(key));
+		assertSame(key, acquire(key));
+		Thread.sleep(150L);
+		assertNull(acquire(key));
+		assertSame(key, acquire(key));
+	}
+
+	@Test
+	public void rejectedDimensionDoesNotConsumeOthers() {
+		GatewayRateLimiter.Key tenant = key(1L, 2L);
+		GatewayRateLimiter.Key client = key(1L, 1L);
+		assertNull(acquire(tenant, client));
+		assertSame(client, acquire(tenant, client));
+		// 上一次被 client 拒绝时 tenant 未扣减，仍剩一个令牌
+		assertNull(acquire(tenant));
+		assertSame(tenant, acquire(tenant));
+	}
+
+	@Test
+	public void concurrentAcquireNeverExceedsCapacity() throws Exception {
+		long burst = 50L;
+		GatewayRateLimiter.Key key = key(1L, burst);
+		int threads = 16;
+		int attempts = 20;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger passed = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>(threads);
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < attempts; j++) {
+						if (acquire(key) == null) {
+							passed.incrementAndGet();
+						}
+					}
+					return null;
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+			// 每秒补充一个令牌，通过数不超过桶容量加上期间补充的令牌
+			long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - begin);
+			assertTrue(passed.get() >= burst);
+			assertTrue(passed.get() <= burst + elapsedSeconds + 1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private GatewayRateLimiter.Key acquire(GatewayRateLimiter.Key... keys) {
+		return rateLimiter.acquire(keys.length == 1 ? Collections.singletonList(keys[0]) : Arrays.asList(keys)).block();
+	}
+
+	private static GatewayRateLimiter.Key key(long replenishRate, long burstCapacity) {
+		RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+		rule.setReplenishRate(replenishRate);
+		rule.setBurstCapacity(burstCapacity);
+		return new GatewayRateLimiter.Key("test", UUID.randomUUID().toString(), rule);
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.gateway.support;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springblade.gateway.provider.AuthProvider;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关放行地址匹配基准测试
+ *
+ * <p>
+ * 默认放行地址加上 extra 条自定义放行地址，分别以放行地址与普通业务地址(全部不命中)校验：
+ * streamLoop 为原先每次请求替换通配符后逐条 startsWith 的实现，antPathLoop 为逐条 AntPathMatcher 匹配，
+ * trie 为预编译的 PathPrefixMatcher。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main PathPrefixMatcherBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathPrefixMatcherBenchmark {
+
+	private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	@Param({"0", "50"})
+	private int extra;
+
+	@Param({"/oauth/captcha/code", "/blade-system/user/page"})
+	private String path;
+
+	private List<String> skipUrl;
+	private PathPrefixMatcher matcher;
+
+	@Setup
+	public void setup() {
+		skipUrl = new ArrayList<>(extra);
+		for (int i = 0; i < extra; i++) {
+			skipUrl.add("/blade-open" + i + "/public/**");
+		}
+		matcher = PathPrefixMatcher.compile(AuthProvider.TARGET, AuthProvider.REPLACEMENT, AuthProvider.getDefaultSkipUrl(), skipUrl);
+	}
+
+	@Benchmark
+	public boolean streamLoop() {
+		return AuthProvider.getDefaultSkipUrl().stream().map(url -> url.replace(AuthProvider.TARGET, AuthProvider.REPLACEMENT)).anyMatch(path::startsWith)
+			|| skipUrl.stream().map(url -> url.replace(AuthProvider.TARGET, AuthProvider.REPLACEMENT)).anyMatch(path::startsWith);
+	}
+
+	@Benchmark
+	public boolean antPathLoop() {
+		return AuthProvider.getDefaultSkipUrl().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path))
+			|| skipUrl.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+	}
+
+	@Benchmark
+	public boolean trie() {
+		return matcher.matches(path);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(PathPrefixMatcherBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
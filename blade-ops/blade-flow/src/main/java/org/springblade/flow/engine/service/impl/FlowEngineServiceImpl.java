@@ -65,6 +65,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 工作流服务实现类
@@ -127,13 +128,16 @@ public class FlowEngineServiceImpl extends ServiceImpl<FlowMapper, FlowModel> im
 		}
 		List<FlowExecution> flowList = new ArrayList<>();
 		List<ProcessInstance> procInsList = processInstanceQuery.listPage(Func.toInt((page.getCurrent() - 1) * page.getSize()), Func.toInt(page.getSize()));
+		// 整页发起人一次性批量查询
+		Map<Long, User> userMap = UserCache.getUsers(procInsList.stream()
+			.map(processInstance -> TaskUtil.getUserId(processInstance.getStartUserId())).collect(Collectors.toSet()));
 		procInsList.forEach(processInstance -> {
 			ExecutionEntityImpl execution = (ExecutionEntityImpl) processInstance;
 			FlowExecution flowExecution = new FlowExecution();
 			flowExecution.setId(execution.getId());
 			flowExecution.setName(execution.getName());
 			flowExecution.setStartUserId(execution.getStartUserId());
-			User taskUser = UserCache.getUserByTaskUser(execution.getStartUserId());
+			User taskUser = userMap.get(TaskUtil.getUserId(execution.getStartUserId()));
 			if (taskUser != null) {
 				flowExecution.setStartUser(taskUser.getName());
 			}
@@ -159,6 +163,9 @@ public class FlowEngineServiceImpl extends ServiceImpl<FlowMapper, FlowModel> im
 		List<HistoricActivityInstance> historicActivityInstanceList = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).orderByHistoricActivityInstanceStartTime().asc().orderByHistoricActivityInstanceEndTime().asc().list();
 		boolean start = false;
 		Map<String, Integer> activityMap = new HashMap<>(16);
+		// 所有执行人一次性批量查询
+		Map<Long, User> userMap = UserCache.getUsers(historicActivityInstanceList.stream()
+			.map(HistoricActivityInstance::getAssignee).filter(StringUtil::isNotBlank).map(TaskUtil::getUserId).collect(Collectors.toSet()));
 		for (int i = 0; i < historicActivityInstanceList.size(); i++) {
 			HistoricActivityInstance historicActivityInstance = historicActivityInstanceList.get(i);
 			// 过滤开始节点前的节点
@@ -199,7 +206,7 @@ public class FlowEngineServiceImpl extends ServiceImpl<FlowMapper, FlowModel> im
 				}
 				// 获取任务执行人名称
 				if (StringUtil.isNotBlank(historicActivityInstance.getAssignee())) {
-					User user = UserCache.getUser(TaskUtil.getUserId(historicActivityInstance.getAssignee()));
+					User user = userMap.get(TaskUtil.getUserId(historicActivityInstance.getAssignee()));
 					if (user != null) {
 						flow.setAssignee(historicActivityInstance.getAssignee());
 						flow.setAssigneeName(user.getName());
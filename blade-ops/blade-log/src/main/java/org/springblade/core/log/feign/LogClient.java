@@ -20,9 +20,7 @@ import lombok.AllArgsConstructor;
 import org.springblade.core.log.model.LogApi;
 import org.springblade.core.log.model.LogUsual;
 import org.springblade.core.log.model.LogError;
-import org.springblade.core.log.service.ILogApiService;
-import org.springblade.core.log.service.ILogUsualService;
-import org.springblade.core.log.service.ILogErrorService;
+import org.springblade.core.log.sink.LogSink;
 import org.springblade.core.tool.api.R;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -37,30 +35,26 @@ import org.springframework.web.bind.annotation.RestController;
 @AllArgsConstructor
 public class LogClient implements ILogClient {
 
-	ILogUsualService usualLogService;
-
-	ILogApiService apiLogService;
-
-	ILogErrorService errorLogService;
+	LogSink logSink;
 
 	@Override
 	@PostMapping(API_PREFIX + "/saveUsualLog")
 	public R<Boolean> saveUsualLog(@RequestBody LogUsual log) {
 		log.setParams(log.getParams().replace("&amp;", "&"));
-		return R.data(usualLogService.save(log));
+		return R.data(logSink.submit(log));
 	}
 
 	@Override
 	@PostMapping(API_PREFIX + "/saveApiLog")
 	public R<Boolean> saveApiLog(@RequestBody LogApi log) {
 		log.setParams(log.getParams().replace("&amp;", "&"));
-		return R.data(apiLogService.save(log));
+		return R.data(logSink.submit(log));
 	}
 
 	@Override
 	@PostMapping(API_PREFIX + "/saveErrorLog")
 	public R<Boolean> saveErrorLog(@RequestBody LogError log) {
 		log.setParams(log.getParams().replace("&amp;", "&"));
-		return R.data(errorLogService.save(log));
+		return R.data(logSink.submit(log));
 	}
 }
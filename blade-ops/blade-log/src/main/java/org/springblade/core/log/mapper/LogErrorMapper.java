@@ -16,9 +16,13 @@
  */
 package org.springblade.core.log.mapper;
 
+import com.baomidou.mybatisplus.annotation.SqlParser;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
 import org.springblade.core.log.model.LogError;
 
+import java.util.List;
+
 /**
  * Mapper 接口
  *
@@ -26,4 +30,13 @@ import org.springblade.core.log.model.LogError;
  */
 public interface LogErrorMapper extends BaseMapper<LogError> {
 
+	/**
+	 * 多行批量新增，租户编号取自日志本身，不经过租户插件
+	 *
+	 * @param list 日志集合
+	 * @return 影响行数
+	 */
+	@SqlParser(filter = true)
+	int insertBatch(@Param("list") List<LogError> list);
+
 }
@@ -0,0 +1,77 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.core.log.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 日志异步入库配置
+ *
+ * @author Chill
+ */
+@Data
+@ConfigurationProperties("blade.log.sink")
+public class LogSinkProperties {
+
+	/**
+	 * 是否开启异步入库，关闭时逐条同步写入
+	 */
+	private Boolean enabled = true;
+
+	/**
+	 * 队列容量
+	 */
+	private Integer queueSize = 10000;
+
+	/**
+	 * 单次写入的最大条数
+	 */
+	private Integer batchSize = 500;
+
+	/**
+	 * 未攒满一批时的最长等待时间
+	 */
+	private Duration flushInterval = Duration.ofSeconds(1);
+
+	/**
+	 * 队列已满时的处理策略
+	 */
+	private Overflow overflow = Overflow.BLOCK;
+
+	/**
+	 * BLOCK 策略下的最长等待时间，超时后丢弃
+	 */
+	private Duration offerTimeout = Duration.ofMillis(100);
+
+	/**
+	 * 队列已满时的处理策略
+	 */
+	public enum Overflow {
+		/**
+		 * 阻塞调用方直至入队或超时，对调用方形成背压
+		 */
+		BLOCK,
+		/**
+		 * 立即丢弃并计数
+		 */
+		DROP
+	}
+
+}
@@ -19,6 +19,8 @@ package org.springblade.core.log.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.springblade.core.log.model.LogApi;
 
+import java.util.List;
+
 /**
  * 服务类
  *
@@ -26,4 +28,12 @@ import org.springblade.core.log.model.LogApi;
  */
 public interface ILogApiService extends IService<LogApi> {
 
+	/**
+	 * 多行批量新增
+	 *
+	 * @param list 日志集合
+	 * @return boolean
+	 */
+	boolean insertBatch(List<LogApi> list);
+
 }
@@ -19,6 +19,8 @@ package org.springblade.core.log.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.springblade.core.log.model.LogUsual;
 
+import java.util.List;
+
 /**
  * 服务类
  *
@@ -26,4 +28,12 @@ import org.springblade.core.log.model.LogUsual;
  */
 public interface ILogUsualService extends IService<LogUsual> {
 
+	/**
+	 * 多行批量新增
+	 *
+	 * @param list 日志集合
+	 * @return boolean
+	 */
+	boolean insertBatch(List<LogUsual> list);
+
 }
@@ -16,12 +16,15 @@
  */
 package org.springblade.core.log.service.impl;
 
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import org.springblade.core.log.mapper.LogApiMapper;
 import org.springblade.core.log.model.LogApi;
 import org.springblade.core.log.service.ILogApiService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 服务实现类
  *
@@ -30,5 +33,14 @@ import org.springframework.stereotype.Service;
 @Service
 public class LogApiServiceImpl extends ServiceImpl<LogApiMapper, LogApi> implements ILogApiService {
 
+	@Override
+	public boolean insertBatch(List<LogApi> list) {
+		list.forEach(log -> {
+			if (log.getId() == null) {
+				log.setId(IdWorker.getId());
+			}
+		});
+		return baseMapper.insertBatch(list) > 0;
+	}
 
 }
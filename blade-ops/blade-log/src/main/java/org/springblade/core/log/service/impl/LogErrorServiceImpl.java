@@ -16,12 +16,15 @@
  */
 package org.springblade.core.log.service.impl;
 
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import org.springblade.core.log.mapper.LogErrorMapper;
 import org.springblade.core.log.model.LogError;
 import org.springblade.core.log.service.ILogErrorService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 服务实现类
  *
@@ -30,4 +33,14 @@ import org.springframework.stereotype.Service;
 @Service
 public class LogErrorServiceImpl extends ServiceImpl<LogErrorMapper, LogError> implements ILogErrorService {
 
+	@Override
+	public boolean insertBatch(List<LogError> list) {
+		list.forEach(log -> {
+			if (log.getId() == null) {
+				log.setId(IdWorker.getId());
+			}
+		});
+		return baseMapper.insertBatch(list) > 0;
+	}
+
 }
@@ -0,0 +1,236 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.core.log.sink;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springblade.core.log.model.LogApi;
+import org.springblade.core.log.model.LogError;
+import org.springblade.core.log.model.LogUsual;
+import org.springblade.core.log.props.LogSinkProperties;
+import org.springblade.core.log.service.ILogApiService;
+import org.springblade.core.log.service.ILogErrorService;
+import org.springblade.core.log.service.ILogUsualService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 日志异步入库
+ *
+ * <p>
+ * 调用方只负责将日志放入有界队列，由后台线程攒批后以多行 insert 写入，攒满 batchSize 或等待超过 flushInterval 即写出。
+ * 队列已满时按配置阻塞调用方或直接丢弃，丢弃数、队列深度及写入耗时均输出为监控指标。
+ * 批量写入失败时退化为逐条写入，只丢失确实无法写入的记录。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+@Component
+public class LogSink implements InitializingBean, DisposableBean, Runnable {
+
+	/**
+	 * 监控指标前缀
+	 */
+	private static final String METRIC_PREFIX = "blade.log.sink";
+
+	private final LogSinkProperties properties;
+	private final ILogUsualService usualLogService;
+	private final ILogApiService apiLogService;
+	private final ILogErrorService errorLogService;
+	private final BlockingQueue<Object> queue;
+	private final Thread worker;
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder written = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final Timer flushTimer;
+	private volatile boolean running = true;
+
+	public LogSink(LogSinkProperties properties, ILogUsualService usualLogService, ILogApiService apiLogService, ILogErrorService errorLogService,
+				   ObjectProvider<MeterRegistry> meterRegistry) {
+		this.properties = properties;
+		this.usualLogService = usualLogService;
+		this.apiLogService = apiLogService;
+		this.errorLogService = errorLogService;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+		this.worker = new Thread(this, "blade-log-sink");
+		this.worker.setDaemon(true);
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			Gauge.builder(METRIC_PREFIX + ".pending", queue, BlockingQueue::size).register(registry);
+			FunctionCounter.builder(METRIC_PREFIX + ".dropped", dropped, LongAdder::sum).register(registry);
+			FunctionCounter.builder(METRIC_PREFIX + ".written", written, LongAdder::sum).register(registry);
+			FunctionCounter.builder(METRIC_PREFIX + ".failed", failed, LongAdder::sum).register(registry);
+			this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush").register(registry);
+		} else {
+			this.flushTimer = null;
+		}
+	}
+
+	/**
+	 * 提交日志，未开启异步入库时同步写入
+	 *
+	 * @param log 日志
+	 * @return 是否已接收
+	 */
+	public boolean submit(Object log) {
+		if (!properties.getEnabled() || !running) {
+			return save(log);
+		}
+		boolean accepted;
+		if (properties.getOverflow() == LogSinkProperties.Overflow.BLOCK) {
+			try {
+				accepted = queue.offer(log, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				accepted = false;
+			}
+		} else {
+			accepted = queue.offer(log);
+		}
+		if (!accepted) {
+			dropped.increment();
+		}
+		return accepted;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (properties.getEnabled()) {
+			worker.start();
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		running = false;
+		if (worker.isAlive()) {
+			worker.join(properties.getFlushInterval().toMillis() + TimeUnit.SECONDS.toMillis(10));
+		}
+	}
+
+	@Override
+	public void run() {
+		int batchSize = properties.getBatchSize();
+		long intervalNanos = properties.getFlushInterval().toNanos();
+		List<Object> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				long deadline = System.nanoTime() + intervalNanos;
+				while (batch.size() < batchSize) {
+					long remaining = deadline - System.nanoTime();
+					Object entry = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+					if (entry == null) {
+						break;
+					}
+					batch.add(entry);
+					queue.drainTo(batch, batchSize - batch.size());
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			flush(batch);
+		}
+		// 停机前写出队列中剩余的日志
+		do {
+			queue.drainTo(batch, batchSize);
+			flush(batch);
+		} while (!queue.isEmpty());
+	}
+
+	/**
+	 * 按日志类型分组写入，写入后清空批次
+	 */
+	private void flush(List<Object> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		long start = System.nanoTime();
+		List<LogUsual> usualLogs = new ArrayList<>();
+		List<LogApi> apiLogs = new ArrayList<>();
+		List<LogError> errorLogs = new ArrayList<>();
+		for (Object entry : batch) {
+			if (entry instanceof LogApi) {
+				apiLogs.add((LogApi) entry);
+			} else if (entry instanceof LogError) {
+				errorLogs.add((LogError) entry);
+			} else if (entry instanceof LogUsual) {
+				usualLogs.add((LogUsual) entry);
+			}
+		}
+		batch.clear();
+		write(apiLogs, apiLogService::insertBatch, apiLogService::save);
+		write(errorLogs, errorLogService::insertBatch, errorLogService::save);
+		write(usualLogs, usualLogService::insertBatch, usualLogService::save);
+		if (flushTimer != null) {
+			flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private <T> void write(List<T> logs, Function<List<T>, Boolean> batchWriter, Function<T, Boolean> rowWriter) {
+		if (logs.isEmpty()) {
+			return;
+		}
+		try {
+			batchWriter.apply(logs);
+			written.add(logs.size());
+			return;
+		} catch (Exception e) {
+			log.error("log batch insert failed, falling back to row inserts: {}", e.getMessage());
+		}
+		for (T row : logs) {
+			try {
+				rowWriter.apply(row);
+				written.increment();
+			} catch (Exception e) {
+				failed.increment();
+				log.error("log insert failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 同步写入单条日志
+	 */
+	private boolean save(Object log) {
+		if (log instanceof LogApi) {
+			return apiLogService.save((LogApi) log);
+		}
+		if (log instanceof LogError) {
+			return errorLogService.save((LogError) log);
+		}
+		if (log instanceof LogUsual) {
+			return usualLogService.save((LogUsual) log);
+		}
+		return false;
+	}
+
+}
@@ -22,6 +22,7 @@ import io.swagger.annotations.ApiOperation;
 import com.github.xiaoymin.knife4j.annotations.ApiOperationSupport;
 import io.swagger.annotations.ApiParam;
 import lombok.AllArgsConstructor;
+import org.springblade.common.cache.NearCache;
 import org.springblade.core.boot.ctrl.BladeController;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.mp.support.Condition;
@@ -99,8 +100,9 @@ public class OssController extends BladeController {
 	@ApiOperationSupport(order = 4)
 	@ApiOperation(value = "新增", notes = "传入oss")
 	public R save(@Valid @RequestBody Oss oss) {
-		CacheUtil.evict(SYS_CACHE, OssBuilder.OSS_CODE, SecureUtil.getTenantId());
-		return R.status(ossService.save(oss));
+		boolean status = ossService.save(oss);
+		evictOssCache();
+		return R.status(status);
 	}
 
 	/**
@@ -110,8 +112,9 @@ public class OssController extends BladeController {
 	@ApiOperationSupport(order = 5)
 	@ApiOperation(value = "修改", notes = "传入oss")
 	public R update(@Valid @RequestBody Oss oss) {
-		CacheUtil.evict(SYS_CACHE, OssBuilder.OSS_CODE, SecureUtil.getTenantId());
-		return R.status(ossService.updateById(oss));
+		boolean status = ossService.updateById(oss);
+		evictOssCache();
+		return R.status(status);
 	}
 
 	/**
@@ -121,8 +124,9 @@ public class OssController extends BladeController {
 	@ApiOperationSupport(order = 6)
 	@ApiOperation(value = "新增或修改", notes = "传入oss")
 	public R submit(@Valid @RequestBody Oss oss) {
-		CacheUtil.evict(SYS_CACHE, OssBuilder.OSS_CODE, SecureUtil.getTenantId());
-		return R.status(ossService.saveOrUpdate(oss));
+		boolean status = ossService.saveOrUpdate(oss);
+		evictOssCache();
+		return R.status(status);
 	}
 
 
@@ -133,8 +137,9 @@ public class OssController extends BladeController {
 	@ApiOperationSupport(order = 7)
 	@ApiOperation(value = "逻辑删除", notes = "传入ids")
 	public R remove(@ApiParam(value = "主键集合", required = true) @RequestParam String ids) {
-		CacheUtil.evict(SYS_CACHE, OssBuilder.OSS_CODE, SecureUtil.getTenantId());
-		return R.status(ossService.deleteLogic(Func.toLongList(ids)));
+		boolean status = ossService.deleteLogic(Func.toLongList(ids));
+		evictOssCache();
+		return R.status(status);
 	}
 
 
@@ -145,8 +150,17 @@ public class OssController extends BladeController {
 	@ApiOperationSupport(order = 8)
 	@ApiOperation(value = "配置启用", notes = "传入id")
 	public R enable(@ApiParam(value = "主键", required = true) @RequestParam Long id) {
+		boolean status = ossService.enable(id);
+		evictOssCache();
+		return R.status(status);
+	}
+
+	/**
+	 * 清除当前租户的对象存储配置缓存及各节点的本地缓存
+	 */
+	private static void evictOssCache() {
 		CacheUtil.evict(SYS_CACHE, OssBuilder.OSS_CODE, SecureUtil.getTenantId());
-		return R.status(ossService.enable(id));
+		NearCache.evict(SYS_CACHE);
 	}
 
 }
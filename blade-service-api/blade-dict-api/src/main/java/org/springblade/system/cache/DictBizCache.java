@@ -16,6 +16,7 @@
  */
 package org.springblade.system.cache;
 
+import org.springblade.common.cache.NearCache;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.utils.SpringUtil;
@@ -54,10 +55,10 @@ public class DictBizCache {
 	 * @return
 	 */
 	public static DictBiz getById(Long id) {
-		return CacheUtil.get(DICT_CACHE, DICT_ID, id, () -> {
+		return NearCache.get(DICT_CACHE, DICT_ID, id, () -> CacheUtil.get(DICT_CACHE, DICT_ID, id, () -> {
 			R<DictBiz> result = getDictClient().getById(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -68,10 +69,10 @@ public class DictBizCache {
 	 * @return
 	 */
 	public static String getValue(String code, Integer dictKey) {
-		return CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> {
+		return NearCache.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> {
 			R<String> result = getDictClient().getValue(code, String.valueOf(dictKey));
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -82,10 +83,10 @@ public class DictBizCache {
 	 * @return
 	 */
 	public static String getValue(String code, String dictKey) {
-		return CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> {
+		return NearCache.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> {
 			R<String> result = getDictClient().getValue(code, dictKey);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -95,10 +96,10 @@ public class DictBizCache {
 	 * @return
 	 */
 	public static List<DictBiz> getList(String code) {
-		return CacheUtil.get(DICT_CACHE, DICT_LIST, code, () -> {
+		return NearCache.get(DICT_CACHE, DICT_LIST, code, () -> CacheUtil.get(DICT_CACHE, DICT_LIST, code, () -> {
 			R<List<DictBiz>> result = getDictClient().getList(code);
 			return result.getData();
-		});
+		}));
 	}
 
 }
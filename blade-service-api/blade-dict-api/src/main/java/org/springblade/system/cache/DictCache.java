@@ -16,6 +16,7 @@
  */
 package org.springblade.system.cache;
 
+import org.springblade.common.cache.NearCache;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.utils.SpringUtil;
@@ -23,7 +24,9 @@ import org.springblade.core.tool.utils.StringPool;
 import org.springblade.system.entity.Dict;
 import org.springblade.system.feign.IDictClient;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.springblade.core.cache.constant.CacheConstant.DICT_CACHE;
 
@@ -37,6 +40,7 @@ public class DictCache {
 	private static final String DICT_ID = "dict:id:";
 	private static final String DICT_VALUE = "dict:value:";
 	private static final String DICT_LIST = "dict:list:";
+	private static final String DICT_VALUE_MAP = "dict:valueMap:";
 
 	private static IDictClient dictClient;
 
@@ -54,10 +58,10 @@ public class DictCache {
 	 * @return
 	 */
 	public static Dict getById(Long id) {
-		return CacheUtil.get(DICT_CACHE, DICT_ID, id, () -> {
+		return NearCache.get(DICT_CACHE, DICT_ID, id, () -> CacheUtil.get(DICT_CACHE, DICT_ID, id, () -> {
 			R<Dict> result = getDictClient().getById(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -68,10 +72,10 @@ public class DictCache {
 	 * @return
 	 */
 	public static String getValue(String code, Integer dictKey) {
-		return CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> {
+		return NearCache.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, String.valueOf(dictKey), () -> {
 			R<String> result = getDictClient().getValue(code, String.valueOf(dictKey));
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -82,10 +86,24 @@ public class DictCache {
 	 * @return
 	 */
 	public static String getValue(String code, String dictKey) {
-		return CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> {
+		return NearCache.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> CacheUtil.get(DICT_CACHE, DICT_VALUE + code + StringPool.COLON, dictKey, () -> {
 			R<String> result = getDictClient().getValue(code, dictKey);
 			return result.getData();
-		});
+		}));
+	}
+
+	/**
+	 * 获取字典编号下所有字典键与值的映射，用于批量翻译字典值
+	 *
+	 * @param code 字典编号
+	 * @return
+	 */
+	public static Map<String, String> getValueMap(String code) {
+		Map<String, String> valueMap = NearCache.get(DICT_CACHE, DICT_VALUE_MAP, code, () -> CacheUtil.get(DICT_CACHE, DICT_VALUE_MAP, code, () -> {
+			R<Map<String, String>> result = getDictClient().getValueMap(code);
+			return result.getData();
+		}));
+		return valueMap == null ? Collections.emptyMap() : valueMap;
 	}
 
 	/**
@@ -95,10 +113,10 @@ public class DictCache {
 	 * @return
 	 */
 	public static List<Dict> getList(String code) {
-		return CacheUtil.get(DICT_CACHE, DICT_LIST, code, () -> {
+		return NearCache.get(DICT_CACHE, DICT_LIST, code, () -> CacheUtil.get(DICT_CACHE, DICT_LIST, code, () -> {
 			R<List<Dict>> result = getDictClient().getList(code);
 			return result.getData();
-		});
+		}));
 	}
 
 }
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feign接口类
@@ -41,6 +42,7 @@ public interface IDictClient {
 	String GET_BY_ID = API_PREFIX + "/dict/get-by-id";
 	String GET_VALUE = API_PREFIX + "/dict/get-value";
 	String GET_LIST = API_PREFIX + "/dict/get-list";
+	String GET_VALUE_MAP = API_PREFIX + "/dict/get-value-map";
 
 	/**
 	 * 获取字典实体
@@ -70,4 +72,13 @@ public interface IDictClient {
 	@GetMapping(GET_LIST)
 	R<List<Dict>> getList(@RequestParam("code") String code);
 
+	/**
+	 * 获取字典编号下所有字典键与值的映射
+	 *
+	 * @param code 字典编号
+	 * @return
+	 */
+	@GetMapping(GET_VALUE_MAP)
+	R<Map<String, String>> getValueMap(@RequestParam("code") String code);
+
 }
@@ -21,6 +21,7 @@ import org.springblade.system.entity.Dict;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feign失败配置
@@ -43,4 +44,9 @@ public class IDictClientFallback implements IDictClient {
 	public R<List<Dict>> getList(String code) {
 		return R.fail("获取数据失败");
 	}
+
+	@Override
+	public R<Map<String, String>> getValueMap(String code) {
+		return R.fail("获取数据失败");
+	}
 }
@@ -16,12 +16,21 @@
  */
 package org.springblade.system.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springblade.common.cache.SingleFlight;
 import org.springblade.core.cache.utils.CacheUtil;
+import org.springblade.core.tool.utils.Func;
 import org.springblade.core.tool.utils.SpringUtil;
 import org.springblade.core.tool.utils.StringPool;
 import org.springblade.system.feign.IApiScopeClient;
+import org.springblade.system.handler.ApiScopePermission;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
 
@@ -33,6 +42,21 @@ import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
 public class ApiScopeCache {
 
 	private static final String SCOPE_CACHE_CODE = "apiScope:code:";
+	private static final String SCOPE_CACHE_CODES = "apiScope:codes:";
+
+	/**
+	 * 预编译的接口权限，按角色组合缓存于本地，不依赖可选的本地二级缓存。
+	 * 接口权限或角色授权变更时由 {@link ApiScopeCacheEvictor} 通知各节点清空，过期时间仅作兜底
+	 */
+	private static final Cache<String, ApiScopePermission> PERMISSIONS = Caffeine.newBuilder()
+		.maximumSize(1024)
+		.expireAfterWrite(Duration.ofMinutes(10))
+		.build();
+
+	/**
+	 * 清空次数，加载期间发生清空时不回填，避免写入旧的编译结果
+	 */
+	private static final AtomicLong GENERATION = new AtomicLong();
 
 	private static IApiScopeClient apiScopeClient;
 
@@ -50,12 +74,75 @@ public class ApiScopeCache {
 	 * @return permissions
 	 */
 	public static List<String> permissionPath(String roleId) {
-		List<String> permissions = CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, roleId, List.class);
-		if (permissions == null) {
-			permissions = getApiScopeClient().permissionPath(roleId);
-			CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, roleId, permissions);
+		return SingleFlight.get(SYS_CACHE, SCOPE_CACHE_CODE + roleId,
+			() -> CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, roleId, List.class),
+			() -> getApiScopeClient().permissionPath(roleId),
+			permissions -> CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, roleId, permissions));
+	}
+
+	/**
+	 * 获取角色拥有的全部接口资源编号
+	 *
+	 * @param roleId 角色id
+	 * @return codes
+	 */
+	public static List<String> permissionCodes(String roleId) {
+		return SingleFlight.get(SYS_CACHE, SCOPE_CACHE_CODES + roleId,
+			() -> CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODES, roleId, List.class),
+			() -> getApiScopeClient().permissionCodes(roleId),
+			codes -> CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODES, roleId, codes));
+	}
+
+	/**
+	 * 获取角色预编译的接口权限，按角色组合缓存于本地
+	 *
+	 * @param roleId 角色id
+	 * @return ApiScopePermission
+	 */
+	public static ApiScopePermission permission(String roleId) {
+		if (Func.isEmpty(roleId)) {
+			return ApiScopePermission.EMPTY;
+		}
+		String key = roleKey(roleId);
+		ApiScopePermission permission = PERMISSIONS.getIfPresent(key);
+		if (permission != null) {
+			return permission;
+		}
+		long generation = GENERATION.get();
+		List<String> paths = permissionPath(roleId);
+		List<String> codes = permissionCodes(roleId);
+		// 远程调用失败时不缓存编译结果，避免短暂故障后长时间拒绝访问
+		if (paths == null || codes == null) {
+			return ApiScopePermission.EMPTY;
 		}
-		return permissions;
+		permission = ApiScopePermission.compile(paths, codes);
+		if (generation == GENERATION.get()) {
+			PERMISSIONS.put(key, permission);
+		}
+		return permission;
+	}
+
+	/**
+	 * 清空本节点预编译的接口权限
+	 */
+	public static void evictPermission() {
+		GENERATION.incrementAndGet();
+		PERMISSIONS.invalidateAll();
+	}
+
+	/**
+	 * 清空所有节点预编译的接口权限
+	 */
+	public static void evict() {
+		ApiScopeCacheEvictor.broadcast();
+	}
+
+	/**
+	 * 角色组合去重排序后作为 key，角色顺序不同的用户共用同一编译结果
+	 */
+	private static String roleKey(String roleId) {
+		return Arrays.stream(Func.toStrArray(roleId)).map(String::trim).filter(Func::isNotEmpty)
+			.distinct().sorted().collect(Collectors.joining(StringPool.COMMA));
 	}
 
 	/**
@@ -66,12 +153,11 @@ public class ApiScopeCache {
 	 * @return permissions
 	 */
 	public static List<String> permissionCode(String permission, String roleId) {
-		List<String> permissions = CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, permission + StringPool.COLON + roleId, List.class);
-		if (permissions == null) {
-			permissions = getApiScopeClient().permissionCode(permission, roleId);
-			CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, permission + StringPool.COLON + roleId, permissions);
-		}
-		return permissions;
+		String key = permission + StringPool.COLON + roleId;
+		return SingleFlight.get(SYS_CACHE, SCOPE_CACHE_CODE + key,
+			() -> CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, key, List.class),
+			() -> getApiScopeClient().permissionCode(permission, roleId),
+			permissions -> CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, key, permissions));
 	}
 
 }
@@ -0,0 +1,46 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.cache;
+
+import lombok.AllArgsConstructor;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.cache.annotation.CacheEvict;
+
+import java.util.Arrays;
+
+import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
+
+/**
+ * 在清除 SYS_CACHE 的 {@link CacheEvict} 生效后同步清空各节点预编译的接口权限
+ *
+ * @author Chill
+ */
+@Aspect
+@AllArgsConstructor
+public class ApiScopeCacheEvictAspect {
+
+	private final ApiScopeCacheEvictor apiScopeCacheEvictor;
+
+	@AfterReturning("@annotation(cacheEvict)")
+	public void afterEvict(CacheEvict cacheEvict) {
+		if (Arrays.asList(cacheEvict.cacheNames()).contains(SYS_CACHE) || Arrays.asList(cacheEvict.value()).contains(SYS_CACHE)) {
+			apiScopeCacheEvictor.evict();
+		}
+	}
+
+}
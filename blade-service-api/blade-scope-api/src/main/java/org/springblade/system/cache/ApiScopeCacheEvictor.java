@@ -0,0 +1,102 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 接口权限本地缓存清除
+ *
+ * <p>
+ * 通过 Redis 发布订阅通知所有节点清空预编译的接口权限，与本地二级缓存是否启用无关。
+ * </p>
+ *
+ * @author Chill
+ */
+@Slf4j
+public class ApiScopeCacheEvictor implements InitializingBean, DisposableBean {
+
+	/**
+	 * 清除通知频道
+	 */
+	public static final String CHANNEL = "blade:scope:api:evict";
+
+	private static volatile ApiScopeCacheEvictor evictor;
+
+	private final RedisConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisMessageListenerContainer listenerContainer;
+
+	public ApiScopeCacheEvictor(RedisConnectionFactory connectionFactory) {
+		this.connectionFactory = connectionFactory;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (connectionFactory != null) {
+			redisTemplate = new StringRedisTemplate(connectionFactory);
+			listenerContainer = new RedisMessageListenerContainer();
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.addMessageListener((message, pattern) -> ApiScopeCache.evictPermission(), new ChannelTopic(CHANNEL));
+			listenerContainer.afterPropertiesSet();
+			listenerContainer.start();
+		}
+		evictor = this;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		evictor = null;
+		if (listenerContainer != null) {
+			listenerContainer.destroy();
+		}
+	}
+
+	/**
+	 * 清空本节点的接口权限缓存，并广播至其他节点
+	 */
+	public void evict() {
+		ApiScopeCache.evictPermission();
+		if (redisTemplate == null) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(CHANNEL, CHANNEL);
+		} catch (Exception e) {
+			log.error("api scope evict publish failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 未注册时只清空本节点
+	 */
+	static void broadcast() {
+		ApiScopeCacheEvictor current = evictor;
+		if (current == null) {
+			ApiScopeCache.evictPermission();
+			return;
+		}
+		current.evict();
+	}
+
+}
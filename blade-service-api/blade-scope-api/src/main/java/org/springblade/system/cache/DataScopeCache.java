@@ -16,6 +16,7 @@
  */
 package org.springblade.system.cache;
 
+import org.springblade.common.cache.SingleFlight;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.datascope.model.DataScopeModel;
 import org.springblade.core.tool.utils.CollectionUtil;
@@ -55,12 +56,11 @@ public class DataScopeCache {
 	 * @return DataScopeModel
 	 */
 	public static DataScopeModel getDataScopeByMapper(String mapperId, String roleId) {
-		DataScopeModel dataScope = CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CLASS, mapperId + StringPool.COLON + roleId, DataScopeModel.class);
-		if (dataScope == null) {
-			dataScope = getDataScopeClient().getDataScopeByMapper(mapperId, roleId);
-			CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CLASS, mapperId + StringPool.COLON + roleId, dataScope);
-		}
-		return dataScope;
+		String key = mapperId + StringPool.COLON + roleId;
+		return SingleFlight.get(SYS_CACHE, SCOPE_CACHE_CLASS + key,
+			() -> CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CLASS, key, DataScopeModel.class),
+			() -> getDataScopeClient().getDataScopeByMapper(mapperId, roleId),
+			dataScope -> CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CLASS, key, dataScope));
 	}
 
 	/**
@@ -70,12 +70,10 @@ public class DataScopeCache {
 	 * @return DataScopeModel
 	 */
 	public static DataScopeModel getDataScopeByCode(String code) {
-		DataScopeModel dataScope = CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, code, DataScopeModel.class);
-		if (dataScope == null) {
-			dataScope = getDataScopeClient().getDataScopeByCode(code);
-			CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, code, dataScope);
-		}
-		return dataScope;
+		return SingleFlight.get(SYS_CACHE, SCOPE_CACHE_CODE + code,
+			() -> CacheUtil.get(SYS_CACHE, SCOPE_CACHE_CODE, code, DataScopeModel.class),
+			() -> getDataScopeClient().getDataScopeByCode(code),
+			dataScope -> CacheUtil.put(SYS_CACHE, SCOPE_CACHE_CODE, code, dataScope));
 	}
 
 	/**
@@ -85,11 +83,9 @@ public class DataScopeCache {
 	 * @return deptIds
 	 */
 	public static List<Long> getDeptAncestors(Long deptId) {
-		List ancestors = CacheUtil.get(SYS_CACHE, DEPT_CACHE_ANCESTORS, deptId, List.class);
-		if (CollectionUtil.isEmpty(ancestors)) {
-			ancestors = getDataScopeClient().getDeptAncestors(deptId);
-			CacheUtil.put(SYS_CACHE, DEPT_CACHE_ANCESTORS, deptId, ancestors);
-		}
-		return ancestors;
+		return SingleFlight.get(SYS_CACHE, DEPT_CACHE_ANCESTORS + deptId, () -> {
+			List<Long> ancestors = CacheUtil.get(SYS_CACHE, DEPT_CACHE_ANCESTORS, deptId, List.class);
+			return CollectionUtil.isEmpty(ancestors) ? null : ancestors;
+		}, () -> getDataScopeClient().getDeptAncestors(deptId), ancestors -> CacheUtil.put(SYS_CACHE, DEPT_CACHE_ANCESTORS, deptId, ancestors));
 	}
 }
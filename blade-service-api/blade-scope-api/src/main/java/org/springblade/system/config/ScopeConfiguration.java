@@ -21,11 +21,16 @@ import lombok.AllArgsConstructor;
 import org.springblade.core.datascope.handler.ScopeModelHandler;
 import org.springblade.core.secure.config.RegistryConfiguration;
 import org.springblade.core.secure.handler.IPermissionHandler;
+import org.springblade.system.cache.ApiScopeCacheEvictAspect;
+import org.springblade.system.cache.ApiScopeCacheEvictor;
 import org.springblade.system.handler.ApiScopePermissionHandler;
 import org.springblade.system.handler.DataScopeModelHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 /**
  * 公共封装包配置类
@@ -47,4 +52,15 @@ public class ScopeConfiguration {
 		return new ApiScopePermissionHandler();
 	}
 
+	@Bean
+	public ApiScopeCacheEvictor apiScopeCacheEvictor(ObjectProvider<RedisConnectionFactory> connectionFactory) {
+		return new ApiScopeCacheEvictor(connectionFactory.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+	public ApiScopeCacheEvictAspect apiScopeCacheEvictAspect(ApiScopeCacheEvictor apiScopeCacheEvictor) {
+		return new ApiScopeCacheEvictAspect(apiScopeCacheEvictor);
+	}
+
 }
@@ -37,6 +37,7 @@ public interface IApiScopeClient {
 	String API_PREFIX = "/client/api-scope";
 	String PERMISSION_PATH = API_PREFIX + "/permission-path";
 	String PERMISSION_CODE = API_PREFIX + "/permission-code";
+	String PERMISSION_CODES = API_PREFIX + "/permission-codes";
 
 	/**
 	 * 获取接口权限地址
@@ -57,4 +58,13 @@ public interface IApiScopeClient {
 	@GetMapping(PERMISSION_CODE)
 	List<String> permissionCode(@RequestParam("permission") String permission, @RequestParam("roleId") String roleId);
 
+	/**
+	 * 获取角色拥有的全部接口资源编号
+	 *
+	 * @param roleId 角色id
+	 * @return codes
+	 */
+	@GetMapping(PERMISSION_CODES)
+	List<String> permissionCodes(@RequestParam("roleId") String roleId);
+
 }
@@ -36,4 +36,9 @@ public class IApiScopeClientFallback implements IApiScopeClient {
 	public List<String> permissionCode(String permission, String roleId) {
 		return null;
 	}
+
+	@Override
+	public List<String> permissionCodes(String roleId) {
+		return null;
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.handler;
+
+import java.util.*;
+
+/**
+ * 角色接口权限
+ *
+ * <p>
+ * 按角色预编译：接口权限地址构建为 Aho-Corasick 自动机，单次扫描请求地址即可判断是否包含任一权限地址，
+ * 语义与 {@code paths.stream().anyMatch(uri::contains)} 一致；资源编号存为哈希集合。
+ * 校验耗时与角色拥有的权限数量无关，且不产生对象分配。
+ * </p>
+ *
+ * @author Chill
+ */
+public final class ApiScopePermission {
+
+	/**
+	 * 无任何权限
+	 */
+	public static final ApiScopePermission EMPTY = new ApiScopePermission(null, Collections.emptySet());
+
+	private final Node root;
+	private final Set<String> codes;
+
+	private ApiScopePermission(Node root, Set<String> codes) {
+		this.root = root;
+		this.codes = codes;
+	}
+
+	/**
+	 * 编译角色接口权限
+	 *
+	 * @param paths 接口权限地址
+	 * @param codes 资源编号
+	 * @return ApiScopePermission
+	 */
+	public static ApiScopePermission compile(Collection<String> paths, Collection<String> codes) {
+		Node root = buildAutomaton(paths);
+		Set<String> codeSet = new HashSet<>();
+		if (codes != null) {
+			codes.stream().filter(Objects::nonNull).forEach(codeSet::add);
+		}
+		if (root == null && codeSet.isEmpty()) {
+			return EMPTY;
+		}
+		return new ApiScopePermission(root, Collections.unmodifiableSet(codeSet));
+	}
+
+	/**
+	 * 请求地址是否包含任一权限地址
+	 *
+	 * @param uri 请求地址
+	 * @return boolean
+	 */
+	public boolean matchesPath(String uri) {
+		if (root == null || uri == null) {
+			return false;
+		}
+		Node node = root;
+		if (node.output) {
+			return true;
+		}
+		for (int i = 0, len = uri.length(); i < len; i++) {
+			char c = uri.charAt(i);
+			Node next = node.child(c);
+			while (next == null && node != root) {
+				node = node.fail;
+				next = node.child(c);
+			}
+			node = (next == null) ? root : next;
+			if (node.output) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 是否拥有资源编号
+	 *
+	 * @param code 资源编号
+	 * @return boolean
+	 */
+	public boolean hasCode(String code) {
+		return code != null && codes.contains(code);
+	}
+
+	/**
+	 * 构建自动机，无有效地址时返回 null
+	 */
+	private static Node buildAutomaton(Collection<String> paths) {
+		if (paths == null || paths.isEmpty()) {
+			return null;
+		}
+		Node root = new Node();
+		boolean any = false;
+		for (String path : paths) {
+			if (path == null) {
+				continue;
+			}
+			Node node = root;
+			for (int i = 0; i < path.length(); i++) {
+				node = node.building.computeIfAbsent(path.charAt(i), c -> new Node());
+			}
+			node.output = true;
+			any = true;
+		}
+		if (!any) {
+			return null;
+		}
+		// 广度优先计算失配指针，output 沿失配链向下传递
+		Deque<Node> queue = new ArrayDeque<>();
+		root.fail = root;
+		root.freeze();
+		for (Node child : root.children) {
+			child.fail = root;
+			child.output |= root.output;
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			Node node = queue.poll();
+			node.freeze();
+			for (int i = 0; i < node.keys.length; i++) {
+				char c = node.keys[i];
+				Node child = node.children[i];
+				Node fail = node.fail;
+				Node target = fail.child(c);
+				while (target == null && fail != root) {
+					fail = fail.fail;
+					target = fail.child(c);
+				}
+				child.fail = (target == null) ? root : target;
+				child.output |= child.fail.output;
+				queue.add(child);
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * 自动机节点，子节点按字符有序存放，二分查找
+	 */
+	private static final class Node {
+		private Map<Character, Node> building = new TreeMap<>();
+		private char[] keys;
+		private Node[] children;
+		private Node fail;
+		private boolean output;
+
+		private void freeze() {
+			keys = new char[building.size()];
+			children = new Node[building.size()];
+			int i = 0;
+			for (Map.Entry<Character, Node> entry : building.entrySet()) {
+				keys[i] = entry.getKey();
+				children[i] = entry.getValue();
+				i++;
+			}
+			building = null;
+		}
+
+		private Node child(char c) {
+			int index = Arrays.binarySearch(keys, c);
+			return index < 0 ? null : children[index];
+		}
+	}
+
+}
@@ -22,10 +22,8 @@ import org.springblade.core.secure.utils.SecureUtil;
 import org.springblade.core.tool.utils.WebUtil;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.List;
 
-import static org.springblade.system.cache.ApiScopeCache.permissionCode;
-import static org.springblade.system.cache.ApiScopeCache.permissionPath;
+import static org.springblade.system.cache.ApiScopeCache.permission;
 
 /**
  * 接口权限校验类
@@ -41,12 +39,7 @@ public class ApiScopePermissionHandler implements IPermissionHandler {
 		if (request == null || user == null) {
 			return false;
 		}
-		String uri = request.getRequestURI();
-		List<String> paths = permissionPath(user.getRoleId());
-		if (paths == null || paths.size() == 0) {
-			return false;
-		}
-		return paths.stream().anyMatch(uri::contains);
+		return permission(user.getRoleId()).matchesPath(request.getRequestURI());
 	}
 
 	@Override
@@ -56,8 +49,7 @@ public class ApiScopePermissionHandler implements IPermissionHandler {
 		if (request == null || user == null) {
 			return false;
 		}
-		List<String> codes = permissionCode(permission, user.getRoleId());
-		return codes != null && codes.size() != 0;
+		return permission(user.getRoleId()).hasCode(permission);
 	}
 
 }
@@ -0,0 +1,95 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.handler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 接口权限校验基准测试
+ *
+ * <p>
+ * 角色拥有 size 个接口权限地址，请求地址不命中任何权限(最坏情况)：
+ * containsLoop 为原先逐条 contains 的校验，compileAndMatch 为未缓存编译结果时每次请求重新编译(不含远程加载)，
+ * cachedMatch 为按角色组合命中本地编译缓存后的校验。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main ApiScopePermissionBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiScopePermissionBenchmark {
+
+	private static final String ROLE_KEY = "1123598816738675201,1123598816738675202";
+
+	@Param({"10", "100", "1000"})
+	private int size;
+
+	private List<String> paths;
+	private String uri;
+	private Cache<String, ApiScopePermission> permissions;
+
+	@Setup
+	public void setup() {
+		paths = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			paths.add("/blade-module" + (i % 16) + "/resource" + i + "/detail");
+		}
+		uri = "/blade-system/user/page";
+		permissions = Caffeine.newBuilder().maximumSize(1024).build();
+		permissions.put(ROLE_KEY, ApiScopePermission.compile(paths, Collections.emptyList()));
+	}
+
+	@Benchmark
+	public boolean containsLoop() {
+		return paths.stream().anyMatch(uri::contains);
+	}
+
+	@Benchmark
+	public boolean compileAndMatch() {
+		return ApiScopePermission.compile(paths, Collections.emptyList()).matchesPath(uri);
+	}
+
+	@Benchmark
+	public boolean cachedMatch() {
+		ApiScopePermission permission = permissions.getIfPresent(ROLE_KEY);
+		return permission != null && permission.matchesPath(uri);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(ApiScopePermissionBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
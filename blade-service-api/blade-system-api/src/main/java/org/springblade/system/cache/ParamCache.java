@@ -16,6 +16,7 @@
  */
 package org.springblade.system.cache;
 
+import org.springblade.common.cache.NearCache;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.utils.SpringUtil;
@@ -50,10 +51,10 @@ public class ParamCache {
 	 * @return Param
 	 */
 	public static Param getById(Long id) {
-		return CacheUtil.get(PARAM_CACHE, PARAM_ID, id, () -> {
+		return NearCache.get(PARAM_CACHE, PARAM_ID, id, () -> CacheUtil.get(PARAM_CACHE, PARAM_ID, id, () -> {
 			R<Param> result = getSysClient().getParam(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -63,10 +64,10 @@ public class ParamCache {
 	 * @return String
 	 */
 	public static String getValue(String paramKey) {
-		return CacheUtil.get(PARAM_CACHE, PARAM_VALUE, paramKey, () -> {
+		return NearCache.get(PARAM_CACHE, PARAM_VALUE, paramKey, () -> CacheUtil.get(PARAM_CACHE, PARAM_VALUE, paramKey, () -> {
 			R<String> result = getSysClient().getParamValue(paramKey);
 			return result.getData();
-		});
+		}));
 	}
 
 }
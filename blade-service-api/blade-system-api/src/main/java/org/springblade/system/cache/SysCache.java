@@ -16,8 +16,11 @@
  */
 package org.springblade.system.cache;
 
+import org.springblade.common.cache.NearCache;
+import org.springblade.common.cache.SingleFlight;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.tool.api.R;
+import org.springblade.core.tool.utils.Func;
 import org.springblade.core.tool.utils.SpringUtil;
 import org.springblade.system.entity.Dept;
 import org.springblade.system.entity.Menu;
@@ -25,8 +28,7 @@ import org.springblade.system.entity.Role;
 import org.springblade.system.entity.Tenant;
 import org.springblade.system.feign.ISysClient;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
@@ -67,10 +69,10 @@ public class SysCache {
 	 * @return
 	 */
 	public static Menu getMenu(Long id) {
-		return CacheUtil.get(SYS_CACHE, MENU_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, MENU_ID, id, () -> CacheUtil.get(SYS_CACHE, MENU_ID, id, () -> {
 			R<Menu> result = getSysClient().getMenu(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -80,9 +82,29 @@ public class SysCache {
 	 * @return
 	 */
 	public static Dept getDept(Long id) {
-		return CacheUtil.get(SYS_CACHE, DEPT_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, DEPT_ID, id, () -> CacheUtil.get(SYS_CACHE, DEPT_ID, id, () -> {
 			R<Dept> result = getSysClient().getDept(id);
 			return result.getData();
+		}));
+	}
+
+	/**
+	 * 批量获取部门
+	 *
+	 * @param ids 主键集合
+	 * @return 主键与部门的映射，不包含查询不到的主键
+	 */
+	public static Map<Long, Dept> getDepts(Collection<Long> ids) {
+		return NearCache.getAll(SYS_CACHE, DEPT_ID, ids, id -> CacheUtil.get(SYS_CACHE, DEPT_ID, id, Dept.class), misses -> {
+			R<List<Dept>> result = getSysClient().getDepts(Func.join(misses));
+			Map<Long, Dept> loaded = new HashMap<>(16);
+			if (result.getData() != null) {
+				result.getData().forEach(dept -> {
+					CacheUtil.put(SYS_CACHE, DEPT_ID, dept.getId(), dept);
+					loaded.put(dept.getId(), dept);
+				});
+			}
+			return loaded;
 		});
 	}
 
@@ -93,10 +115,10 @@ public class SysCache {
 	 * @return 部门名
 	 */
 	public static String getDeptName(Long id) {
-		return CacheUtil.get(SYS_CACHE, DEPT_NAME_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, DEPT_NAME_ID, id, () -> CacheUtil.get(SYS_CACHE, DEPT_NAME_ID, id, () -> {
 			R<String> result = getSysClient().getDeptName(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -106,9 +128,29 @@ public class SysCache {
 	 * @return Role
 	 */
 	public static Role getRole(Long id) {
-		return CacheUtil.get(SYS_CACHE, ROLE_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, ROLE_ID, id, () -> CacheUtil.get(SYS_CACHE, ROLE_ID, id, () -> {
 			R<Role> result = getSysClient().getRole(id);
 			return result.getData();
+		}));
+	}
+
+	/**
+	 * 批量获取角色
+	 *
+	 * @param ids 主键集合
+	 * @return 主键与角色的映射，不包含查询不到的主键
+	 */
+	public static Map<Long, Role> getRoles(Collection<Long> ids) {
+		return NearCache.getAll(SYS_CACHE, ROLE_ID, ids, id -> CacheUtil.get(SYS_CACHE, ROLE_ID, id, Role.class), misses -> {
+			R<List<Role>> result = getSysClient().getRoles(Func.join(misses));
+			Map<Long, Role> loaded = new HashMap<>(16);
+			if (result.getData() != null) {
+				result.getData().forEach(role -> {
+					CacheUtil.put(SYS_CACHE, ROLE_ID, role.getId(), role);
+					loaded.put(role.getId(), role);
+				});
+			}
+			return loaded;
 		});
 	}
 
@@ -119,10 +161,10 @@ public class SysCache {
 	 * @return 角色名
 	 */
 	public static String getRoleName(Long id) {
-		return CacheUtil.get(SYS_CACHE, ROLE_NAME_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, ROLE_NAME_ID, id, () -> CacheUtil.get(SYS_CACHE, ROLE_NAME_ID, id, () -> {
 			R<String> result = getSysClient().getRoleName(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -132,10 +174,10 @@ public class SysCache {
 	 * @return 角色别名
 	 */
 	public static String getRoleAlias(Long id) {
-		return CacheUtil.get(SYS_CACHE, ROLE_ALIAS_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, ROLE_ALIAS_ID, id, () -> CacheUtil.get(SYS_CACHE, ROLE_ALIAS_ID, id, () -> {
 			R<String> result = getSysClient().getRoleAlias(id);
 			return result.getData();
-		});
+		}));
 	}
 
 
@@ -146,10 +188,10 @@ public class SysCache {
 	 * @return 部门名
 	 */
 	public static List<String> getDeptNames(String deptIds) {
-		return CacheUtil.get(SYS_CACHE, DEPT_NAMES_ID, deptIds, () -> {
+		return NearCache.get(SYS_CACHE, DEPT_NAMES_ID, deptIds, () -> CacheUtil.get(SYS_CACHE, DEPT_NAMES_ID, deptIds, () -> {
 			R<List<String>> result = getSysClient().getDeptNames(deptIds);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -159,10 +201,10 @@ public class SysCache {
 	 * @return 子部门
 	 */
 	public static List<Dept> getDeptChild(Long deptId) {
-		return CacheUtil.get(SYS_CACHE, DEPT_CHILD_ID, deptId, () -> {
+		return NearCache.get(SYS_CACHE, DEPT_CHILD_ID, deptId, () -> CacheUtil.get(SYS_CACHE, DEPT_CHILD_ID, deptId, () -> {
 			R<List<Dept>> result = getSysClient().getDeptChild(deptId);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -175,18 +217,19 @@ public class SysCache {
 		if (deptId == null) {
 			return null;
 		}
-		List<Long> deptIdList = CacheUtil.get(SYS_CACHE, DEPT_CHILDIDS_ID, deptId, List.class);
-		if (deptIdList == null) {
-			deptIdList = new ArrayList<>();
-			List<Dept> deptChild = getDeptChild(deptId);
-			if (deptChild != null) {
-				List<Long> collect = deptChild.stream().map(Dept::getId).collect(Collectors.toList());
-				deptIdList.addAll(collect);
-			}
-			deptIdList.add(deptId);
-			CacheUtil.put(SYS_CACHE, DEPT_CHILDIDS_ID, deptId, deptIdList);
-		}
-		return deptIdList;
+		return NearCache.get(SYS_CACHE, DEPT_CHILDIDS_ID, deptId, () -> SingleFlight.get(SYS_CACHE, DEPT_CHILDIDS_ID + deptId,
+			() -> CacheUtil.get(SYS_CACHE, DEPT_CHILDIDS_ID, deptId, List.class),
+			() -> {
+				List<Long> deptIdList = new ArrayList<>();
+				List<Dept> deptChild = getDeptChild(deptId);
+				if (deptChild != null) {
+					List<Long> collect = deptChild.stream().map(Dept::getId).collect(Collectors.toList());
+					deptIdList.addAll(collect);
+				}
+				deptIdList.add(deptId);
+				return deptIdList;
+			},
+			deptIdList -> CacheUtil.put(SYS_CACHE, DEPT_CHILDIDS_ID, deptId, deptIdList)));
 	}
 
 	/**
@@ -196,10 +239,10 @@ public class SysCache {
 	 * @return 角色名
 	 */
 	public static List<String> getRoleNames(String roleIds) {
-		return CacheUtil.get(SYS_CACHE, ROLE_NAMES_ID, roleIds, () -> {
+		return NearCache.get(SYS_CACHE, ROLE_NAMES_ID, roleIds, () -> CacheUtil.get(SYS_CACHE, ROLE_NAMES_ID, roleIds, () -> {
 			R<List<String>> result = getSysClient().getRoleNames(roleIds);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -209,10 +252,10 @@ public class SysCache {
 	 * @return 角色别名
 	 */
 	public static List<String> getRoleAliases(String roleIds) {
-		return CacheUtil.get(SYS_CACHE, ROLE_ALIASES_ID, roleIds, () -> {
+		return NearCache.get(SYS_CACHE, ROLE_ALIASES_ID, roleIds, () -> CacheUtil.get(SYS_CACHE, ROLE_ALIASES_ID, roleIds, () -> {
 			R<List<String>> result = getSysClient().getRoleAliases(roleIds);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -222,10 +265,10 @@ public class SysCache {
 	 * @return Tenant
 	 */
 	public static Tenant getTenant(Long id) {
-		return CacheUtil.get(SYS_CACHE, TENANT_ID, id, () -> {
+		return NearCache.get(SYS_CACHE, TENANT_ID, id, () -> CacheUtil.get(SYS_CACHE, TENANT_ID, id, () -> {
 			R<Tenant> result = getSysClient().getTenant(id);
 			return result.getData();
-		});
+		}));
 	}
 
 	/**
@@ -235,10 +278,10 @@ public class SysCache {
 	 * @return Tenant
 	 */
 	public static Tenant getTenant(String tenantId) {
-		return CacheUtil.get(SYS_CACHE, TENANT_TENANT_ID, tenantId, () -> {
+		return NearCache.get(SYS_CACHE, TENANT_TENANT_ID, tenantId, () -> CacheUtil.get(SYS_CACHE, TENANT_TENANT_ID, tenantId, () -> {
 			R<Tenant> result = getSysClient().getTenant(tenantId);
 			return result.getData();
-		});
+		}));
 	}
 
 }
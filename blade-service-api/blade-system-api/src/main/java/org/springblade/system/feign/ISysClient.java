@@ -39,10 +39,12 @@ public interface ISysClient {
 	String API_PREFIX = "/client";
 	String MENU = API_PREFIX + "/menu";
 	String DEPT = API_PREFIX + "/dept";
+	String DEPTS = API_PREFIX + "/depts";
 	String DEPT_NAME = API_PREFIX + "/dept-name";
 	String DEPT_NAMES = API_PREFIX + "/dept-names";
 	String DEPT_CHILD = API_PREFIX + "/dept-child";
 	String ROLE = API_PREFIX + "/role";
+	String ROLES = API_PREFIX + "/roles";
 	String ROLE_NAME = API_PREFIX + "/role-name";
 	String ROLE_NAMES = API_PREFIX + "/role-names";
 	String ROLE_ALIAS = API_PREFIX + "/role-alias";
@@ -70,6 +72,15 @@ public interface ISysClient {
 	@GetMapping(DEPT)
 	R<Dept> getDept(@RequestParam("id") Long id);
 
+	/**
+	 * 批量获取部门
+	 *
+	 * @param deptIds 主键集合，逗号分隔
+	 * @return Dept集合
+	 */
+	@GetMapping(DEPTS)
+	R<List<Dept>> getDepts(@RequestParam("deptIds") String deptIds);
+
 	/**
 	 * 获取部门名
 	 *
@@ -88,6 +99,15 @@ public interface ISysClient {
 	@GetMapping(ROLE)
 	R<Role> getRole(@RequestParam("id") Long id);
 
+	/**
+	 * 批量获取角色
+	 *
+	 * @param roleIds 主键集合，逗号分隔
+	 * @return Role集合
+	 */
+	@GetMapping(ROLES)
+	R<List<Role>> getRoles(@RequestParam("roleIds") String roleIds);
+
 	/**
 	 * 获取角色名
 	 *
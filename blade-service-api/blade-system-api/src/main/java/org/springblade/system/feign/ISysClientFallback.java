@@ -40,6 +40,11 @@ public class ISysClientFallback implements ISysClient {
 		return R.fail("获取数据失败");
 	}
 
+	@Override
+	public R<List<Dept>> getDepts(String deptIds) {
+		return R.fail("获取数据失败");
+	}
+
 	@Override
 	public R<String> getDeptName(Long id) {
 		return R.fail("获取数据失败");
@@ -50,6 +55,11 @@ public class ISysClientFallback implements ISysClient {
 		return R.fail("获取数据失败");
 	}
 
+	@Override
+	public R<List<Role>> getRoles(String roleIds) {
+		return R.fail("获取数据失败");
+	}
+
 	@Override
 	public R<String> getRoleName(Long id) {
 		return R.fail("获取数据失败");
@@ -0,0 +1,49 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.vo;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 角色权限快照，按角色集合一次构建并缓存
+ *
+ * @author Chill
+ */
+@Data
+public class RolePermissionVO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@ApiModelProperty(value = "按钮")
+	private List<MenuVO> buttons;
+
+	@ApiModelProperty(value = "菜单授权树")
+	private List<MenuVO> grantTree;
+
+	@ApiModelProperty(value = "顶部菜单授权树")
+	private List<MenuVO> grantTopTree;
+
+	@ApiModelProperty(value = "数据权限授权树")
+	private List<MenuVO> grantDataScopeTree;
+
+	@ApiModelProperty(value = "接口权限授权树")
+	private List<MenuVO> grantApiScopeTree;
+
+}
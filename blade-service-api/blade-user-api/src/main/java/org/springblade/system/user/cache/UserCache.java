@@ -16,6 +16,7 @@
  */
 package org.springblade.system.user.cache;
 
+import org.springblade.common.cache.NearCache;
 import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.tool.api.R;
 import org.springblade.core.tool.utils.Func;
@@ -24,6 +25,11 @@ import org.springblade.core.tool.utils.StringUtil;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.feign.IUserClient;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.springblade.core.cache.constant.CacheConstant.USER_CACHE;
 import static org.springblade.core.launch.constant.FlowConstant.TASK_USR_PREFIX;
 
@@ -62,9 +68,29 @@ public class UserCache {
 	 * @return
 	 */
 	public static User getUser(Long userId) {
-		return CacheUtil.get(USER_CACHE, USER_CACHE_ID, userId, () -> {
+		return NearCache.get(USER_CACHE, USER_CACHE_ID, userId, () -> CacheUtil.get(USER_CACHE, USER_CACHE_ID, userId, () -> {
 			R<User> result = getUserClient().userInfoById(userId);
 			return result.getData();
+		}));
+	}
+
+	/**
+	 * 批量获取用户
+	 *
+	 * @param userIds 用户id集合
+	 * @return 用户id与用户的映射，不包含查询不到的用户
+	 */
+	public static Map<Long, User> getUsers(Collection<Long> userIds) {
+		return NearCache.getAll(USER_CACHE, USER_CACHE_ID, userIds, userId -> CacheUtil.get(USER_CACHE, USER_CACHE_ID, userId, User.class), misses -> {
+			R<List<User>> result = getUserClient().userInfoByIds(Func.join(misses));
+			Map<Long, User> loaded = new HashMap<>(16);
+			if (result.getData() != null) {
+				result.getData().forEach(user -> {
+					CacheUtil.put(USER_CACHE, USER_CACHE_ID, user.getId(), user);
+					loaded.put(user.getId(), user);
+				});
+			}
+			return loaded;
 		});
 	}
 
@@ -21,6 +21,7 @@ import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -52,4 +53,16 @@ public class UserInfo implements Serializable {
 	@ApiModelProperty(value = "角色集合")
 	private List<String> roles;
 
+	/**
+	 * 租户是否存在
+	 */
+	@ApiModelProperty(value = "租户是否存在")
+	private Boolean tenantExist;
+
+	/**
+	 * 租户过期时间
+	 */
+	@ApiModelProperty(value = "租户过期时间")
+	private Date tenantExpireTime;
+
 }
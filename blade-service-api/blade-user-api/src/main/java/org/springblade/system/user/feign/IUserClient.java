@@ -27,6 +27,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 /**
  * User Feign接口类
  *
@@ -39,8 +41,12 @@ public interface IUserClient {
 
 	String API_PREFIX = "/client";
 	String USER_INFO = API_PREFIX + "/user-info";
+	String USER_AUTH_INFO = API_PREFIX + "/user-auth-info";
 	String USER_INFO_BY_ID = API_PREFIX + "/user-info-by-id";
+	String USER_INFO_BY_IDS = API_PREFIX + "/user-info-by-ids";
 	String SAVE_USER = API_PREFIX + "/save-user";
+	String SAVE_USERS = API_PREFIX + "/save-users";
+	String UPGRADE_PASSWORD = API_PREFIX + "/upgrade-password";
 
 	/**
 	 * 获取用户信息
@@ -51,6 +57,15 @@ public interface IUserClient {
 	@GetMapping(USER_INFO_BY_ID)
 	R<User> userInfoById(@RequestParam("userId") Long userId);
 
+	/**
+	 * 批量获取用户信息
+	 *
+	 * @param userIds 用户id集合，逗号分隔
+	 * @return
+	 */
+	@GetMapping(USER_INFO_BY_IDS)
+	R<List<User>> userInfoByIds(@RequestParam("userIds") String userIds);
+
 	/**
 	 * 获取用户信息
 	 *
@@ -61,6 +76,16 @@ public interface IUserClient {
 	@GetMapping(USER_INFO)
 	R<UserInfo> userInfo(@RequestParam("tenantId") String tenantId, @RequestParam("account") String account);
 
+	/**
+	 * 获取登录所需的用户信息，一次返回用户、角色别名与租户状态
+	 *
+	 * @param tenantId 租户ID
+	 * @param account  账号
+	 * @return
+	 */
+	@GetMapping(USER_AUTH_INFO)
+	R<UserInfo> userAuthInfo(@RequestParam("tenantId") String tenantId, @RequestParam("account") String account);
+
 	/**
 	 * 新建用户
 	 *
@@ -70,4 +95,24 @@ public interface IUserClient {
 	@PostMapping(SAVE_USER)
 	R<Boolean> saveUser(@RequestBody User user);
 
+	/**
+	 * 批量新建用户
+	 *
+	 * @param users 用户实体集合
+	 * @return
+	 */
+	@PostMapping(SAVE_USERS)
+	R<Boolean> saveUsers(@RequestBody List<User> users);
+
+	/**
+	 * 升级密码加密方式，仅在数据库中仍为 oldPassword 时更新，且只接受 bcrypt、scrypt 格式
+	 *
+	 * @param userId      用户id
+	 * @param oldPassword 升级前的密码(含前缀)
+	 * @param password    按新加密方式加密后的密码(含前缀)
+	 * @return
+	 */
+	@PostMapping(UPGRADE_PASSWORD)
+	R<Boolean> upgradePassword(@RequestParam("userId") Long userId, @RequestParam("oldPassword") String oldPassword, @RequestParam("password") String password);
+
 }
@@ -0,0 +1,61 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.user.vo;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 用户导入结果
+ *
+ * @author Chill
+ */
+@Data
+@ApiModel(value = "UserImportVO对象", description = "用户导入结果")
+public class UserImportVO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 数据行数
+	 */
+	@ApiModelProperty(value = "数据行数")
+	private long total;
+
+	/**
+	 * 导入成功数
+	 */
+	@ApiModelProperty(value = "导入成功数")
+	private long success;
+
+	/**
+	 * 导入失败数
+	 */
+	@ApiModelProperty(value = "导入失败数")
+	private long failure;
+
+	/**
+	 * 失败原因，最多返回前 100 条
+	 */
+	@ApiModelProperty(value = "失败原因")
+	private List<String> errors = new ArrayList<>();
+
+}
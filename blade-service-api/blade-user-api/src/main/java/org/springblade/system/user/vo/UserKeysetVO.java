@@ -0,0 +1,84 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.user.vo;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 用户游标分页视图
+ *
+ * @author Chill
+ */
+@Data
+@ApiModel(value = "UserKeysetVO对象", description = "用户游标分页")
+public class UserKeysetVO implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 不统计总数
+	 */
+	public static final String COUNT_NONE = "none";
+
+	/**
+	 * 统计总数，超过上限时返回上限值
+	 */
+	public static final String COUNT_APPROX = "approx";
+
+	/**
+	 * 精确统计总数
+	 */
+	public static final String COUNT_EXACT = "exact";
+
+	/**
+	 * 当前页记录
+	 */
+	@ApiModelProperty(value = "当前页记录")
+	private List<UserVO> records;
+
+	/**
+	 * 每页数量
+	 */
+	@ApiModelProperty(value = "每页数量")
+	private Integer size;
+
+	/**
+	 * 下一页游标
+	 */
+	@JsonSerialize(using = ToStringSerializer.class)
+	@ApiModelProperty(value = "下一页游标，为空表示已是最后一页")
+	private Long nextId;
+
+	/**
+	 * 总数
+	 */
+	@ApiModelProperty(value = "总数，不统计时为空")
+	private Long total;
+
+	/**
+	 * 总数是否为估算值
+	 */
+	@ApiModelProperty(value = "总数是否已达统计上限")
+	private Boolean approximate;
+
+}
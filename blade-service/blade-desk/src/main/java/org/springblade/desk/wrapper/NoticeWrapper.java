@@ -18,10 +18,15 @@ package org.springblade.desk.wrapper;
 
 import org.springblade.core.mp.support.BaseEntityWrapper;
 import org.springblade.core.tool.utils.BeanUtil;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.desk.entity.Notice;
 import org.springblade.desk.vo.NoticeVO;
 import org.springblade.system.cache.DictCache;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 /**
  * Notice包装类,返回视图层所需的字段
  *
@@ -41,4 +46,17 @@ public class NoticeWrapper extends BaseEntityWrapper<Notice, NoticeVO> {
 		return noticeVO;
 	}
 
+	/**
+	 * 分页模式：整页共用一次字典查询
+	 */
+	@Override
+	public List<NoticeVO> listVO(List<Notice> list) {
+		Map<String, String> categoryMap = DictCache.getValueMap("notice");
+		return list.stream().map(notice -> {
+			NoticeVO noticeVO = BeanUtil.copy(notice, NoticeVO.class);
+			noticeVO.setCategoryName(categoryMap.getOrDefault(String.valueOf(noticeVO.getCategory()), StringPool.EMPTY));
+			return noticeVO;
+		}).collect(Collectors.toList());
+	}
+
 }
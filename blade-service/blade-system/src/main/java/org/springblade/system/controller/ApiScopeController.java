@@ -36,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 
+import static org.springblade.core.cache.constant.CacheConstant.MENU_CACHE;
 import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
 
 /**
@@ -78,7 +79,7 @@ public class ApiScopeController extends BladeController {
 	 */
 	@PostMapping("/save")
 	@ApiOperationSupport(order = 3)
-	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
+	@CacheEvict(cacheNames = {SYS_CACHE, MENU_CACHE}, allEntries = true)
 	@ApiOperation(value = "新增", notes = "传入dataScope")
 	public R save(@Valid @RequestBody ApiScope dataScope) {
 		return R.status(apiScopeService.save(dataScope));
@@ -89,7 +90,7 @@ public class ApiScopeController extends BladeController {
 	 */
 	@PostMapping("/update")
 	@ApiOperationSupport(order = 4)
-	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
+	@CacheEvict(cacheNames = {SYS_CACHE, MENU_CACHE}, allEntries = true)
 	@ApiOperation(value = "修改", notes = "传入dataScope")
 	public R update(@Valid @RequestBody ApiScope dataScope) {
 		return R.status(apiScopeService.updateById(dataScope));
@@ -100,7 +101,7 @@ public class ApiScopeController extends BladeController {
 	 */
 	@PostMapping("/submit")
 	@ApiOperationSupport(order = 5)
-	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
+	@CacheEvict(cacheNames = {SYS_CACHE, MENU_CACHE}, allEntries = true)
 	@ApiOperation(value = "新增或修改", notes = "传入dataScope")
 	public R submit(@Valid @RequestBody ApiScope dataScope) {
 		return R.status(apiScopeService.saveOrUpdate(dataScope));
@@ -112,7 +113,7 @@ public class ApiScopeController extends BladeController {
 	 */
 	@PostMapping("/remove")
 	@ApiOperationSupport(order = 6)
-	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
+	@CacheEvict(cacheNames = {SYS_CACHE, MENU_CACHE}, allEntries = true)
 	@ApiOperation(value = "逻辑删除", notes = "传入ids")
 	public R remove(@ApiParam(value = "主键集合", required = true) @RequestParam String ids) {
 		return R.status(apiScopeService.deleteLogic(Func.toLongList(ids)));
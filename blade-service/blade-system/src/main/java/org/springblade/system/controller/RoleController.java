@@ -125,7 +125,6 @@ public class RoleController extends BladeController {
 	@PostMapping("/grant")
 	@ApiOperationSupport(order = 6)
 	@ApiOperation(value = "权限设置", notes = "传入roleId集合以及menuId集合")
-	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
 	public R grant(@RequestBody GrantVO grantVO) {
 		boolean temp = roleService.grant(grantVO.getRoleIds(), grantVO.getMenuIds(), grantVO.getDataScopeIds(), grantVO.getApiScopeIds());
 		return R.status(temp);
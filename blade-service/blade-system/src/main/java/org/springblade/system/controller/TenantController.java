@@ -35,6 +35,7 @@ import org.springblade.core.tool.utils.Func;
 import org.springblade.system.entity.Tenant;
 import org.springblade.system.service.ITenantService;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 
@@ -51,6 +52,7 @@ import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
  * @author Chill
  */
 @RestController
+@Validated
 @AllArgsConstructor
 @RequestMapping("/tenant")
 @ApiIgnore
@@ -126,6 +128,18 @@ public class TenantController extends BladeController {
 		return R.status(tenantService.saveTenant(tenant));
 	}
 
+	/**
+	 * 批量新增或修改
+	 */
+	@PostMapping("/submit-batch")
+	@ApiOperationSupport(order = 10)
+	@ApiOperation(value = "批量新增或修改", notes = "传入tenant集合")
+	@PreAuth(RoleConstant.HAS_ROLE_ADMINISTRATOR)
+	@CacheEvict(cacheNames = {SYS_CACHE}, allEntries = true)
+	public R submitBatch(@RequestBody List<@Valid Tenant> tenants) {
+		return R.status(tenantService.saveTenants(tenants));
+	}
+
 
 	/**
 	 * 删除
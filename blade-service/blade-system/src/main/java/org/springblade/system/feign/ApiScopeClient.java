@@ -58,4 +58,22 @@ public class ApiScopeClient implements IApiScopeClient {
 		return jdbcTemplate.queryForList(permissionStatement(roleIds.size()), args.toArray(), String.class);
 	}
 
+	@Override
+	@GetMapping(PERMISSION_CODES)
+	public List<String> permissionCodes(String roleId) {
+		List<Long> roleIds = Func.toLongList(roleId);
+		return jdbcTemplate.queryForList(permissionCodesStatement(roleIds.size()), roleIds.toArray(), String.class);
+	}
+
+	/**
+	 * 角色全部接口资源编号查询语句
+	 *
+	 * @param size 角色数量
+	 * @return sql
+	 */
+	private static String permissionCodesStatement(int size) {
+		String holder = String.join(",", Collections.nCopies(size, "?"));
+		return "select resource_code as code from blade_scope_api where resource_code is not null and is_deleted = 0 and id in (select scope_id from blade_role_scope where scope_category = 2 and role_id in (" + holder + "))";
+	}
+
 }
@@ -26,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 import springfox.documentation.annotations.ApiIgnore;
 
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -58,4 +59,10 @@ public class DictClient implements IDictClient {
 		return R.data(service.getList(code));
 	}
 
+	@Override
+	@GetMapping(GET_VALUE_MAP)
+	public R<Map<String, String>> getValueMap(String code) {
+		return R.data(service.getValueMap(code));
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springblade.system.feign;
 
 import lombok.AllArgsConstructor;
 import org.springblade.core.tool.api.R;
+import org.springblade.core.tool.utils.Func;
 import org.springblade.system.entity.*;
 import org.springblade.system.service.*;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -58,6 +59,12 @@ public class SysClient implements ISysClient {
 		return R.data(deptService.getById(id));
 	}
 
+	@Override
+	@GetMapping(DEPTS)
+	public R<List<Dept>> getDepts(String deptIds) {
+		return R.data(deptService.listByIds(Func.toLongList(deptIds)));
+	}
+
 	@Override
 	@GetMapping(DEPT_NAME)
 	public R<String> getDeptName(Long id) {
@@ -70,6 +77,12 @@ public class SysClient implements ISysClient {
 		return R.data(roleService.getById(id));
 	}
 
+	@Override
+	@GetMapping(ROLES)
+	public R<List<Role>> getRoles(String roleIds) {
+		return R.data(roleService.listByIds(Func.toLongList(roleIds)));
+	}
+
 	@Override
 	@GetMapping(ROLE_NAME)
 	public R<String> getRoleName(Long id) {
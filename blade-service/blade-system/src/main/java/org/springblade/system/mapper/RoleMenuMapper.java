@@ -18,6 +18,7 @@ package org.springblade.system.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import org.apache.ibatis.annotations.Param;
 import org.springblade.system.entity.RoleMenu;
 import org.springblade.system.vo.RoleMenuVO;
 
@@ -38,4 +39,12 @@ public interface RoleMenuMapper extends BaseMapper<RoleMenu> {
 	 */
 	List<RoleMenuVO> selectRoleMenuPage(IPage page, RoleMenuVO roleMenu);
 
+	/**
+	 * 多行批量新增
+	 *
+	 * @param list 记录集合
+	 * @return 影响行数
+	 */
+	int insertBatch(@Param("list") List<RoleMenu> list);
+
 }
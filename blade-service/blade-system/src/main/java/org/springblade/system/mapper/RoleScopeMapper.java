@@ -17,8 +17,11 @@
 package org.springblade.system.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Param;
 import org.springblade.system.entity.RoleScope;
 
+import java.util.List;
+
 /**
  * Mapper 接口
  *
@@ -26,4 +29,12 @@ import org.springblade.system.entity.RoleScope;
  */
 public interface RoleScopeMapper extends BaseMapper<RoleScope> {
 
+	/**
+	 * 多行批量新增
+	 *
+	 * @param list 记录集合
+	 * @return 影响行数
+	 */
+	int insertBatch(@Param("list") List<RoleScope> list);
+
 }
@@ -18,8 +18,10 @@ package org.springblade.system.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import org.apache.ibatis.annotations.Param;
 import org.springblade.system.entity.Tenant;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,4 +40,12 @@ public interface TenantMapper extends BaseMapper<Tenant> {
 	 */
 	List<Tenant> selectTenantPage(IPage page, Tenant tenant);
 
+	/**
+	 * 获取已被占用的租户编号，包含已删除的租户
+	 *
+	 * @param tenantIds 候选租户编号
+	 * @return 已存在的租户编号
+	 */
+	List<String> selectExistTenantIds(@Param("tenantIds") Collection<String> tenantIds);
+
 }
@@ -72,6 +72,14 @@ public interface IDictService extends IService<Dict> {
 	 */
 	List<Dict> getList(String code);
 
+	/**
+	 * 获取字典编号下所有字典键与值的映射
+	 *
+	 * @param code 字典编号
+	 * @return
+	 */
+	Map<String, String> getValueMap(String code);
+
 	/**
 	 * 新增或修改
 	 * @param dict
@@ -59,6 +59,14 @@ public interface IMenuService extends IService<Menu> {
 	 */
 	List<MenuVO> routes(String roleId, Long topMenuId);
 
+	/**
+	 * 菜单编号对应的菜单及其全部子孙菜单id
+	 *
+	 * @param codes 菜单编号集合
+	 * @return List<Long>
+	 */
+	List<Long> subtreeIds(List<String> codes);
+
 	/**
 	 * 按钮树形结构
 	 *
@@ -19,6 +19,8 @@ package org.springblade.system.service;
 import com.baomidou.mybatisplus.extension.service.IService;
 import org.springblade.system.entity.RoleMenu;
 
+import java.util.List;
+
 /**
  * 服务类
  *
@@ -26,4 +28,12 @@ import org.springblade.system.entity.RoleMenu;
  */
 public interface IRoleMenuService extends IService<RoleMenu> {
 
+	/**
+	 * 多行批量新增，按批拼接为 insert ... values (...), (...) 语句
+	 *
+	 * @param list 记录集合
+	 * @return boolean
+	 */
+	boolean insertBatch(List<RoleMenu> list);
+
 }
@@ -20,6 +20,8 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import org.springblade.core.mp.base.BaseService;
 import org.springblade.system.entity.Tenant;
 
+import java.util.List;
+
 /**
  * 服务类
  *
@@ -52,4 +54,12 @@ public interface ITenantService extends BaseService<Tenant> {
 	 */
 	boolean saveTenant(Tenant tenant);
 
+	/**
+	 * 批量新增，在同一事务内开通全部新租户
+	 *
+	 * @param tenants
+	 * @return
+	 */
+	boolean saveTenants(List<Tenant> tenants);
+
 }
@@ -18,6 +18,8 @@ package org.springblade.system.service.impl;
 
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import org.springblade.common.cache.NearCache;
+import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.log.exception.ServiceException;
 import org.springblade.core.secure.utils.AuthUtil;
 import org.springblade.core.tool.constant.BladeConstant;
@@ -30,9 +32,12 @@ import org.springblade.system.service.IDeptService;
 import org.springblade.system.vo.DeptVO;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
+
 /**
  * 服务实现类
  *
@@ -41,6 +46,8 @@ import java.util.Map;
 @Service
 public class DeptServiceImpl extends ServiceImpl<DeptMapper, Dept> implements IDeptService {
 
+	private static final String DEPT_TREE = "dept:tree:";
+
 	@Override
 	public List<DeptVO> lazyList(String tenantId, Long parentId, Map<String, Object> param) {
 		if (AuthUtil.isAdministrator()) {
@@ -81,7 +88,19 @@ public class DeptServiceImpl extends ServiceImpl<DeptMapper, Dept> implements ID
 
 	@Override
 	public List<Dept> getDeptChild(Long deptId) {
-		return baseMapper.selectList(Wrappers.<Dept>query().lambda().like(Dept::getAncestors, deptId));
+		Dept dept = getById(deptId);
+		if (dept == null) {
+			return new ArrayList<>();
+		}
+		return deptTree(dept.getTenantId()).children(deptId);
+	}
+
+	/**
+	 * 租户机构树索引，与其他系统缓存一样由本地缓存与 Redis 两级缓存，机构变更时随系统缓存一并清空
+	 */
+	private DeptTree deptTree(String tenantId) {
+		return NearCache.get(SYS_CACHE, DEPT_TREE, tenantId, () -> CacheUtil.get(SYS_CACHE, DEPT_TREE, tenantId,
+			() -> DeptTree.build(baseMapper.selectList(Wrappers.<Dept>query().lambda().eq(Dept::getTenantId, tenantId)))));
 	}
 
 	@Override
@@ -0,0 +1,165 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.service.impl;
+
+import org.springblade.common.cache.ImmutableValue;
+import org.springblade.core.tool.utils.BeanUtil;
+import org.springblade.system.entity.Dept;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * 租户机构树索引
+ *
+ * <p>
+ * 按父子关系深度优先遍历一次，为每个机构记录其子树在遍历序列中的终点，
+ * 查询下级机构时直接截取区间，结果精确且与机构总数无关。
+ * 遍历序列与终点以列表保存，可直接写入 Redis 缓存。
+ * 构建后只读，查询结果为机构的副本，可由本地缓存直接共享。
+ * </p>
+ *
+ * @author Chill
+ */
+public class DeptTree implements Serializable, ImmutableValue {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 深度优先遍历序列
+	 */
+	private List<Dept> order = new ArrayList<>();
+
+	/**
+	 * 与遍历序列对齐，各机构子树最后一个节点在序列中的位置
+	 */
+	private List<Integer> ends = new ArrayList<>();
+
+	/**
+	 * 机构ID到遍历位置的索引，反序列化后按需重建
+	 */
+	private transient volatile Map<Long, Integer> positions;
+
+	/**
+	 * 构建索引
+	 *
+	 * @param depts 同一租户的全部机构
+	 * @return DeptTree
+	 */
+	static DeptTree build(List<Dept> depts) {
+		Map<Long, Dept> byId = new HashMap<>(depts.size() * 2);
+		depts.forEach(dept -> byId.putIfAbsent(dept.getId(), dept));
+		Map<Long, List<Dept>> children = new HashMap<>(byId.size() * 2);
+		List<Dept> roots = new ArrayList<>();
+		for (Dept dept : byId.values()) {
+			Long parentId = dept.getParentId();
+			if (parentId == null || !byId.containsKey(parentId) || parentId.equals(dept.getId())) {
+				roots.add(dept);
+			} else {
+				children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(dept);
+			}
+		}
+		DeptTree tree = new DeptTree();
+		Map<Long, Integer> positions = new HashMap<>(byId.size() * 2);
+		Deque<Dept> stack = new ArrayDeque<>();
+		for (Dept root : roots) {
+			visit(root, children, tree, positions, stack);
+		}
+		// 成环的机构没有根节点可达，各自作为独立子树挂出，避免丢失
+		for (Dept dept : byId.values()) {
+			if (!positions.containsKey(dept.getId())) {
+				visit(dept, children, tree, positions, stack);
+			}
+		}
+		tree.positions = positions;
+		return tree;
+	}
+
+	/**
+	 * 迭代式深度优先遍历，记录子树终点
+	 */
+	private static void visit(Dept root, Map<Long, List<Dept>> children, DeptTree tree, Map<Long, Integer> positions, Deque<Dept> stack) {
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			Dept dept = stack.peek();
+			Integer position = positions.get(dept.getId());
+			if (position == null) {
+				positions.put(dept.getId(), tree.order.size());
+				tree.order.add(dept);
+				tree.ends.add(tree.order.size() - 1);
+				List<Dept> next = children.getOrDefault(dept.getId(), Collections.emptyList());
+				for (int i = next.size() - 1; i >= 0; i--) {
+					if (!positions.containsKey(next.get(i).getId())) {
+						stack.push(next.get(i));
+					}
+				}
+			} else {
+				// 子树遍历完毕，回到该节点时记录区间终点
+				stack.pop();
+				tree.ends.set(position, tree.order.size() - 1);
+			}
+		}
+	}
+
+	/**
+	 * 全部下级机构(不含自身)
+	 *
+	 * @param deptId 机构ID
+	 * @return 下级机构的副本，机构不存在时为空
+	 */
+	List<Dept> children(Long deptId) {
+		Integer start = positions().get(deptId);
+		if (start == null || ends.get(start) <= start) {
+			return Collections.emptyList();
+		}
+		List<Dept> children = new ArrayList<>(ends.get(start) - start);
+		for (Dept dept : order.subList(start + 1, ends.get(start) + 1)) {
+			children.add(BeanUtil.copy(dept, Dept.class));
+		}
+		return children;
+	}
+
+	private Map<Long, Integer> positions() {
+		Map<Long, Integer> index = positions;
+		if (index == null) {
+			index = new HashMap<>(order.size() * 2);
+			for (int i = 0; i < order.size(); i++) {
+				index.putIfAbsent(order.get(i).getId(), i);
+			}
+			positions = index;
+		}
+		return index;
+	}
+
+	public List<Dept> getOrder() {
+		return Collections.unmodifiableList(order);
+	}
+
+	public void setOrder(List<Dept> order) {
+		this.order = order;
+		this.positions = null;
+	}
+
+	public List<Integer> getEnds() {
+		return Collections.unmodifiableList(ends);
+	}
+
+	public void setEnds(List<Integer> ends) {
+		this.ends = ends;
+	}
+
+}
@@ -36,6 +36,7 @@ import org.springblade.system.wrapper.DictWrapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -75,6 +76,15 @@ public class DictServiceImpl extends ServiceImpl<DictMapper, Dict> implements ID
 		return baseMapper.getList(code);
 	}
 
+	@Override
+	public Map<String, String> getValueMap(String code) {
+		List<Dict> list = baseMapper.selectList(Wrappers.<Dict>query().lambda()
+			.select(Dict::getDictKey, Dict::getDictValue).eq(Dict::getCode, code));
+		Map<String, String> valueMap = new HashMap<>(list.size() * 2);
+		list.forEach(dict -> valueMap.putIfAbsent(dict.getDictKey(), Func.toStr(dict.getDictValue(), StringPool.EMPTY)));
+		return valueMap;
+	}
+
 	@Override
 	@CacheEvict(cacheNames = {DICT_CACHE}, allEntries = true)
 	public boolean submit(Dict dict) {
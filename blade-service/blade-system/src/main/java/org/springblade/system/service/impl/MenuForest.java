@@ -0,0 +1,136 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.service.impl;
+
+import org.springblade.common.cache.ImmutableValue;
+import org.springblade.core.tool.utils.BeanUtil;
+import org.springblade.system.entity.Menu;
+
+import java.util.*;
+
+/**
+ * 菜单森林索引
+ *
+ * <p>
+ * 按菜单版本构建一次：id 索引全部菜单并预先计算每个菜单的祖先链，
+ * 求角色路由时只需合并授权菜单与其祖先，耗时与授权菜单数量及树深度相关，与菜单总数无关。
+ * 构建后只读，返回的祖先菜单为副本，可由本地缓存直接共享。
+ * </p>
+ *
+ * @author Chill
+ */
+final class MenuForest implements ImmutableValue {
+
+	private static final long[] NO_ANCESTORS = new long[0];
+
+	private final Map<Long, Menu> menus;
+	private final Map<Long, long[]> ancestors;
+
+	private MenuForest(Map<Long, Menu> menus, Map<Long, long[]> ancestors) {
+		this.menus = menus;
+		this.ancestors = ancestors;
+	}
+
+	/**
+	 * 构建索引
+	 *
+	 * @param allMenus 全部菜单
+	 * @return MenuForest
+	 */
+	static MenuForest build(List<Menu> allMenus) {
+		Map<Long, Menu> menus = new HashMap<>(allMenus.size() * 2);
+		allMenus.forEach(menu -> menus.putIfAbsent(menu.getId(), menu));
+		Map<Long, long[]> ancestors = new HashMap<>(menus.size() * 2);
+		menus.forEach((id, menu) -> ancestors.put(id, resolve(menu, menus)));
+		return new MenuForest(menus, ancestors);
+	}
+
+	/**
+	 * 计算祖先链(由近及远)，遇到缺失的父节点或环时截断
+	 */
+	private static long[] resolve(Menu menu, Map<Long, Menu> menus) {
+		List<Long> chain = new ArrayList<>();
+		Set<Long> visited = new HashSet<>();
+		visited.add(menu.getId());
+		Long parentId = menu.getParentId();
+		while (parentId != null && menus.containsKey(parentId) && visited.add(parentId)) {
+			chain.add(parentId);
+			parentId = menus.get(parentId).getParentId();
+		}
+		if (chain.isEmpty()) {
+			return NO_ANCESTORS;
+		}
+		long[] result = new long[chain.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = chain.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * 授权菜单及其全部祖先菜单，顺序为授权菜单在前、祖先由近及远
+	 *
+	 * @param roleMenus 授权菜单
+	 * @return 菜单集合
+	 */
+	List<Menu> closure(List<Menu> roleMenus) {
+		Map<Long, Menu> routes = new LinkedHashMap<>(roleMenus.size() * 4);
+		roleMenus.forEach(menu -> routes.putIfAbsent(menu.getId(), menu));
+		for (Menu roleMenu : roleMenus) {
+			Long parentId = roleMenu.getParentId();
+			if (parentId == null || !menus.containsKey(parentId)) {
+				continue;
+			}
+			routes.computeIfAbsent(parentId, this::copy);
+			for (long ancestorId : ancestors.get(parentId)) {
+				routes.computeIfAbsent(ancestorId, this::copy);
+			}
+		}
+		return new ArrayList<>(routes.values());
+	}
+
+	/**
+	 * 指定编号的菜单及其全部子孙节点(含按钮)的id，按层级由上至下排列
+	 *
+	 * @param allMenus 全部菜单
+	 * @param codes    菜单编号
+	 * @return 菜单id集合
+	 */
+	static List<Long> subtreeIds(List<Menu> allMenus, Collection<String> codes) {
+		Map<Long, List<Long>> children = new HashMap<>(allMenus.size() * 2);
+		Deque<Long> queue = new ArrayDeque<>();
+		for (Menu menu : allMenus) {
+			children.computeIfAbsent(menu.getParentId(), key -> new ArrayList<>()).add(menu.getId());
+			if (codes.contains(menu.getCode())) {
+				queue.add(menu.getId());
+			}
+		}
+		Set<Long> visited = new LinkedHashSet<>();
+		while (!queue.isEmpty()) {
+			Long id = queue.poll();
+			if (visited.add(id)) {
+				queue.addAll(children.getOrDefault(id, Collections.emptyList()));
+			}
+		}
+		return Collections.unmodifiableList(new ArrayList<>(visited));
+	}
+
+	private Menu copy(Long id) {
+		return BeanUtil.copy(menus.get(id), Menu.class);
+	}
+
+}
@@ -19,6 +19,8 @@ package org.springblade.system.service.impl;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import lombok.AllArgsConstructor;
+import org.springblade.common.cache.NearCache;
+import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.log.exception.ServiceException;
 import org.springblade.core.secure.BladeUser;
 import org.springblade.core.secure.utils.SecureUtil;
@@ -26,6 +28,7 @@ import org.springblade.core.tool.constant.BladeConstant;
 import org.springblade.core.tool.node.ForestNodeMerger;
 import org.springblade.core.tool.support.Kv;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.core.tool.utils.StringUtil;
 import org.springblade.system.dto.MenuDTO;
 import org.springblade.system.entity.Menu;
@@ -38,6 +41,7 @@ import org.springblade.system.service.IRoleMenuService;
 import org.springblade.system.service.IRoleScopeService;
 import org.springblade.system.service.ITopMenuSettingService;
 import org.springblade.system.vo.MenuVO;
+import org.springblade.system.vo.RolePermissionVO;
 import org.springblade.system.wrapper.MenuWrapper;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -58,6 +62,13 @@ import static org.springblade.core.cache.constant.CacheConstant.MENU_CACHE;
 @AllArgsConstructor
 public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements IMenuService {
 
+	private static final String MENU_FOREST = "menu:forest:";
+	private static final String MENU_ROUTES = "menu:routes:";
+	private static final String MENU_PERMISSION = "menu:permission:";
+	private static final String MENU_SUBTREE = "menu:subtree:";
+	private static final String ADMIN_ROUTES = "admin";
+	private static final String ALL_MENUS = "all";
+
 	private IRoleMenuService roleMenuService;
 	private IRoleScopeService roleScopeService;
 	private ITopMenuSettingService topMenuSettingService;
@@ -84,33 +95,88 @@ public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements IM
 		if (StringUtil.isBlank(roleId)) {
 			return null;
 		}
-		List<Menu> allMenus = baseMapper.allMenu();
-		List<Menu> roleMenus = (SecureUtil.isAdministrator() && Func.isEmpty(topMenuId)) ? allMenus : baseMapper.roleMenu(Func.toLongList(roleId), topMenuId);
-		return buildRoutes(allMenus, roleMenus);
+		boolean admin = SecureUtil.isAdministrator() && Func.isEmpty(topMenuId);
+		// 路由只与角色集合、顶部菜单相关，按二者缓存，菜单变更或角色授权时随菜单缓存一并清空
+		String routesKey = admin ? ADMIN_ROUTES : roleKey(roleId) + StringPool.COLON + Func.toLong(topMenuId, 0L);
+		return NearCache.get(MENU_CACHE, MENU_ROUTES, routesKey, () -> CacheUtil.get(MENU_CACHE, MENU_ROUTES, routesKey, () -> {
+			if (admin) {
+				return buildRoutes(baseMapper.allMenu());
+			}
+			return buildRoutes(forest().closure(baseMapper.roleMenu(Func.toLongList(roleId), topMenuId)));
+		}));
+	}
+
+	/**
+	 * 菜单森林索引，每个菜单版本只构建一次
+	 */
+	private MenuForest forest() {
+		return NearCache.get(MENU_CACHE, MENU_FOREST, ALL_MENUS, () -> MenuForest.build(baseMapper.allMenu()));
+	}
+
+	@Override
+	public List<Long> subtreeIds(List<String> codes) {
+		// 新建租户时频繁调用，按编号集合缓存于本地，菜单变更时随菜单缓存一并清空
+		String subtreeKey = String.join(StringPool.COMMA, codes);
+		return NearCache.get(MENU_CACHE, MENU_SUBTREE, subtreeKey, () -> MenuForest.subtreeIds(
+			list(Wrappers.<Menu>query().lambda().select(Menu::getId, Menu::getParentId, Menu::getCode)), new HashSet<>(codes)));
 	}
 
-	private List<MenuVO> buildRoutes(List<Menu> allMenus, List<Menu> roleMenus) {
-		List<Menu> routes = new LinkedList<>(roleMenus);
-		roleMenus.forEach(roleMenu -> recursion(allMenus, routes, roleMenu));
-		routes.sort(Comparator.comparing(Menu::getSort));
+	private List<MenuVO> buildRoutes(List<Menu> routes) {
+		List<Menu> collect = routes.stream()
+			.filter(x -> Func.equals(x.getCategory(), 1))
+			.sorted(Comparator.comparing(Menu::getSort))
+			.collect(Collectors.toList());
 		MenuWrapper menuWrapper = new MenuWrapper();
-		List<Menu> collect = routes.stream().filter(x -> Func.equals(x.getCategory(), 1)).collect(Collectors.toList());
 		return menuWrapper.listNodeVO(collect);
 	}
 
-	private void recursion(List<Menu> allMenus, List<Menu> routes, Menu roleMenu) {
-		Optional<Menu> menu = allMenus.stream().filter(x -> Func.equals(x.getId(), roleMenu.getParentId())).findFirst();
-		if (menu.isPresent() && !routes.contains(menu.get())) {
-			routes.add(menu.get());
-			recursion(allMenus, routes, menu.get());
-		}
+	/**
+	 * 角色集合的缓存键，与角色顺序、重复无关
+	 */
+	private static String roleKey(String roleId) {
+		return Func.toLongList(roleId).stream().distinct().sorted().map(String::valueOf).collect(Collectors.joining(StringPool.COMMA));
+	}
+
+	/**
+	 * 角色权限快照，菜单变更、角色授权、数据权限与接口权限变更时随菜单缓存一并清空，下次访问时一次构建
+	 *
+	 * @param all    是否为全部权限
+	 * @param roleId 角色ID集合
+	 * @return RolePermissionVO
+	 */
+	private RolePermissionVO permission(boolean all, String roleId) {
+		String permissionKey = all ? ALL_MENUS : roleKey(roleId);
+		return NearCache.get(MENU_CACHE, MENU_PERMISSION, permissionKey, () -> CacheUtil.get(MENU_CACHE, MENU_PERMISSION, permissionKey, () -> {
+			RolePermissionVO permission = new RolePermissionVO();
+			MenuWrapper menuWrapper = new MenuWrapper();
+			if (all) {
+				permission.setButtons(menuWrapper.listNodeVO(baseMapper.allButtons()));
+				permission.setGrantTree(ForestNodeMerger.merge(baseMapper.grantTree()));
+				permission.setGrantTopTree(ForestNodeMerger.merge(baseMapper.grantTopTree()));
+				permission.setGrantDataScopeTree(ForestNodeMerger.merge(baseMapper.grantDataScopeTree()));
+				permission.setGrantApiScopeTree(ForestNodeMerger.merge(baseMapper.grantApiScopeTree()));
+			} else {
+				List<Long> roleIds = Func.toLongList(roleId);
+				permission.setButtons(menuWrapper.listNodeVO(baseMapper.buttons(roleIds)));
+				permission.setGrantTree(ForestNodeMerger.merge(baseMapper.grantTreeByRole(roleIds)));
+				permission.setGrantTopTree(ForestNodeMerger.merge(baseMapper.grantTopTreeByRole(roleIds)));
+				permission.setGrantDataScopeTree(ForestNodeMerger.merge(baseMapper.grantDataScopeTreeByRole(roleIds)));
+				permission.setGrantApiScopeTree(ForestNodeMerger.merge(baseMapper.grantApiScopeTreeByRole(roleIds)));
+			}
+			return permission;
+		}));
+	}
+
+	/**
+	 * 授权树的权限快照，超管租户可授予全部权限
+	 */
+	private RolePermissionVO grantPermission(BladeUser user) {
+		return permission(user.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID), user.getRoleId());
 	}
 
 	@Override
 	public List<MenuVO> buttons(String roleId) {
-		List<Menu> buttons = (SecureUtil.isAdministrator()) ? baseMapper.allButtons() : baseMapper.buttons(Func.toLongList(roleId));
-		MenuWrapper menuWrapper = new MenuWrapper();
-		return menuWrapper.listNodeVO(buttons);
+		return permission(SecureUtil.isAdministrator(), roleId).getButtons();
 	}
 
 	@Override
@@ -120,22 +186,22 @@ public class MenuServiceImpl extends ServiceImpl<MenuMapper, Menu> implements IM
 
 	@Override
 	public List<MenuVO> grantTree(BladeUser user) {
-		return ForestNodeMerger.merge(user.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? baseMapper.grantTree() : baseMapper.grantTreeByRole(Func.toLongList(user.getRoleId())));
+		return grantPermission(user).getGrantTree();
 	}
 
 	@Override
 	public List<MenuVO> grantTopTree(BladeUser user) {
-		return ForestNodeMerger.merge(user.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? baseMapper.grantTopTree() : baseMapper.grantTopTreeByRole(Func.toLongList(user.getRoleId())));
+		return grantPermission(user).getGrantTopTree();
 	}
 
 	@Override
 	public List<MenuVO> grantDataScopeTree(BladeUser user) {
-		return ForestNodeMerger.merge(user.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? baseMapper.grantDataScopeTree() : baseMapper.grantDataScopeTreeByRole(Func.toLongList(user.getRoleId())));
+		return grantPermission(user).getGrantDataScopeTree();
 	}
 
 	@Override
 	public List<MenuVO> grantApiScopeTree(BladeUser user) {
-		return ForestNodeMerger.merge(user.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? baseMapper.grantApiScopeTree() : baseMapper.grantApiScopeTreeByRole(Func.toLongList(user.getRoleId())));
+		return grantPermission(user).getGrantApiScopeTree();
 	}
 
 	@Override
@@ -16,12 +16,15 @@
  */
 package org.springblade.system.service.impl;
 
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import org.springblade.system.entity.RoleScope;
 import org.springblade.system.mapper.RoleScopeMapper;
 import org.springblade.system.service.IRoleScopeService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 服务实现类
  *
@@ -30,4 +33,23 @@ import org.springframework.stereotype.Service;
 @Service
 public class RoleScopeServiceImpl extends ServiceImpl<RoleScopeMapper, RoleScope> implements IRoleScopeService {
 
+	/**
+	 * 单条语句的最大行数
+	 */
+	private static final int BATCH_SIZE = 1000;
+
+	@Override
+	public boolean insertBatch(List<RoleScope> list) {
+		for (int from = 0; from < list.size(); from += BATCH_SIZE) {
+			List<RoleScope> batch = list.subList(from, Math.min(from + BATCH_SIZE, list.size()));
+			batch.forEach(item -> {
+				if (item.getId() == null) {
+					item.setId(IdWorker.getId());
+				}
+			});
+			baseMapper.insertBatch(batch);
+		}
+		return true;
+	}
+
 }
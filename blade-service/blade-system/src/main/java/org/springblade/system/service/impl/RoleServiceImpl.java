@@ -20,6 +20,8 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import lombok.AllArgsConstructor;
+import org.springblade.common.cache.NearCache;
+import org.springblade.core.cache.utils.CacheUtil;
 import org.springblade.core.log.exception.ServiceException;
 import org.springblade.core.secure.utils.AuthUtil;
 import org.springblade.core.secure.utils.SecureUtil;
@@ -28,6 +30,7 @@ import org.springblade.core.tool.constant.RoleConstant;
 import org.springblade.core.tool.node.ForestNodeMerger;
 import org.springblade.core.tool.utils.CollectionUtil;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.system.cache.ApiScopeCache;
 import org.springblade.system.entity.Role;
 import org.springblade.system.entity.RoleMenu;
 import org.springblade.system.entity.RoleScope;
@@ -38,14 +41,17 @@ import org.springblade.system.service.IRoleService;
 import org.springblade.system.vo.RoleVO;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotEmpty;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static org.springblade.common.constant.CommonConstant.API_SCOPE_CATEGORY;
 import static org.springblade.common.constant.CommonConstant.DATA_SCOPE_CATEGORY;
+import static org.springblade.core.cache.constant.CacheConstant.MENU_CACHE;
+import static org.springblade.core.cache.constant.CacheConstant.SYS_CACHE;
 
 /**
  * 服务实现类
@@ -78,48 +84,144 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements IR
 	@Override
 	@Transactional(rollbackFor = Exception.class)
 	public boolean grant(@NotEmpty List<Long> roleIds, List<Long> menuIds, List<Long> dataScopeIds, List<Long> apiScopeIds) {
-		// 删除角色配置的菜单集合
-		roleMenuService.remove(Wrappers.<RoleMenu>update().lambda().in(RoleMenu::getRoleId, roleIds));
-		// 组装配置
-		List<RoleMenu> roleMenus = new ArrayList<>();
-		roleIds.forEach(roleId -> menuIds.forEach(menuId -> {
+		// 按差集增删，未变动的授权记录保持原样
+		boolean menuChanged = grantMenu(roleIds, menuIds);
+		boolean dataScopeChanged = grantScope(roleIds, DATA_SCOPE_CATEGORY, dataScopeIds);
+		boolean apiScopeChanged = grantScope(roleIds, API_SCOPE_CATEGORY, apiScopeIds);
+		// 事务提交后仅清除授权发生变动的缓存
+		List<String> cacheNames = new ArrayList<>();
+		if (menuChanged) {
+			cacheNames.add(MENU_CACHE);
+		}
+		if (dataScopeChanged || apiScopeChanged) {
+			cacheNames.add(SYS_CACHE);
+		}
+		if (!cacheNames.isEmpty()) {
+			evictAfterCommit(cacheNames);
+		}
+		return true;
+	}
+
+	/**
+	 * 按差集更新角色菜单
+	 *
+	 * @param roleIds 角色id集合
+	 * @param menuIds 菜单id集合
+	 * @return 是否有变动
+	 */
+	private boolean grantMenu(List<Long> roleIds, List<Long> menuIds) {
+		Map<Long, Set<Long>> pending = expand(roleIds, menuIds);
+		List<Long> removed = new ArrayList<>();
+		roleMenuService.list(Wrappers.<RoleMenu>query().lambda()
+			.select(RoleMenu::getId, RoleMenu::getRoleId, RoleMenu::getMenuId)
+			.in(RoleMenu::getRoleId, roleIds)
+		).forEach(roleMenu -> {
+			// 已存在的记录从待新增集合中剔除，剩余及重复的记录删除
+			if (!pending.get(roleMenu.getRoleId()).remove(roleMenu.getMenuId())) {
+				removed.add(roleMenu.getId());
+			}
+		});
+		List<RoleMenu> inserted = new ArrayList<>();
+		pending.forEach((roleId, ids) -> ids.forEach(menuId -> {
 			RoleMenu roleMenu = new RoleMenu();
 			roleMenu.setRoleId(roleId);
 			roleMenu.setMenuId(menuId);
-			roleMenus.add(roleMenu);
+			inserted.add(roleMenu);
 		}));
-		// 新增配置
-		roleMenuService.saveBatch(roleMenus);
-
-		// 删除角色配置的数据权限集合
-		roleScopeService.remove(Wrappers.<RoleScope>update().lambda().eq(RoleScope::getScopeCategory, DATA_SCOPE_CATEGORY).in(RoleScope::getRoleId, roleIds));
-		// 组装配置
-		List<RoleScope> roleDataScopes = new ArrayList<>();
-		roleIds.forEach(roleId -> dataScopeIds.forEach(scopeId -> {
-			RoleScope roleScope = new RoleScope();
-			roleScope.setScopeCategory(DATA_SCOPE_CATEGORY);
-			roleScope.setRoleId(roleId);
-			roleScope.setScopeId(scopeId);
-			roleDataScopes.add(roleScope);
-		}));
-		// 新增配置
-		roleScopeService.saveBatch(roleDataScopes);
-
-		// 删除角色配置的接口权限集合
-		roleScopeService.remove(Wrappers.<RoleScope>update().lambda().eq(RoleScope::getScopeCategory, API_SCOPE_CATEGORY).in(RoleScope::getRoleId, roleIds));
-		// 组装配置
-		List<RoleScope> roleApiScopes = new ArrayList<>();
-		roleIds.forEach(roleId -> apiScopeIds.forEach(scopeId -> {
+		if (!removed.isEmpty()) {
+			roleMenuService.removeByIds(removed);
+		}
+		if (!inserted.isEmpty()) {
+			roleMenuService.insertBatch(inserted);
+		}
+		return !removed.isEmpty() || !inserted.isEmpty();
+	}
+
+	/**
+	 * 按差集更新角色权限
+	 *
+	 * @param roleIds       角色id集合
+	 * @param scopeCategory 权限类型
+	 * @param scopeIds      权限id集合
+	 * @return 是否有变动
+	 */
+	private boolean grantScope(List<Long> roleIds, Integer scopeCategory, List<Long> scopeIds) {
+		Map<Long, Set<Long>> pending = expand(roleIds, scopeIds);
+		List<Long> removed = new ArrayList<>();
+		roleScopeService.list(Wrappers.<RoleScope>query().lambda()
+			.select(RoleScope::getId, RoleScope::getRoleId, RoleScope::getScopeId)
+			.eq(RoleScope::getScopeCategory, scopeCategory)
+			.in(RoleScope::getRoleId, roleIds)
+		).forEach(roleScope -> {
+			if (!pending.get(roleScope.getRoleId()).remove(roleScope.getScopeId())) {
+				removed.add(roleScope.getId());
+			}
+		});
+		List<RoleScope> inserted = new ArrayList<>();
+		pending.forEach((roleId, ids) -> ids.forEach(scopeId -> {
 			RoleScope roleScope = new RoleScope();
-			roleScope.setScopeCategory(API_SCOPE_CATEGORY);
+			roleScope.setScopeCategory(scopeCategory);
 			roleScope.setScopeId(scopeId);
 			roleScope.setRoleId(roleId);
-			roleApiScopes.add(roleScope);
+			inserted.add(roleScope);
 		}));
-		// 新增配置
-		roleScopeService.saveBatch(roleApiScopes);
+		if (!removed.isEmpty()) {
+			roleScopeService.removeByIds(removed);
+		}
+		if (!inserted.isEmpty()) {
+			roleScopeService.insertBatch(inserted);
+		}
+		return !removed.isEmpty() || !inserted.isEmpty();
+	}
 
-		return true;
+	/**
+	 * 展开为每个角色期望拥有的资源id集合
+	 *
+	 * @param roleIds 角色id集合
+	 * @param ids     资源id集合
+	 * @return Map
+	 */
+	private static Map<Long, Set<Long>> expand(List<Long> roleIds, List<Long> ids) {
+		Map<Long, Set<Long>> expanded = new LinkedHashMap<>(roleIds.size() * 2);
+		roleIds.forEach(roleId -> expanded.computeIfAbsent(roleId, key -> {
+			Set<Long> set = new LinkedHashSet<>();
+			if (ids != null) {
+				ids.stream().filter(Objects::nonNull).forEach(set::add);
+			}
+			return set;
+		}));
+		return expanded;
+	}
+
+	/**
+	 * 事务提交后清空缓存及各节点的本地缓存
+	 *
+	 * <p>
+	 * 角色相关缓存以用户的角色组合为 key，无法按单个角色定位，故按缓存名整体清除。
+	 * </p>
+	 *
+	 * @param cacheNames 缓存名
+	 */
+	private static void evictAfterCommit(List<String> cacheNames) {
+		Runnable evict = () -> {
+			cacheNames.forEach(cacheName -> {
+				CacheUtil.clear(cacheName);
+				NearCache.evict(cacheName);
+			});
+			if (cacheNames.contains(SYS_CACHE)) {
+				ApiScopeCache.evict();
+			}
+		};
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			@Override
+			public void afterCommit() {
+				evict.run();
+			}
+		});
 	}
 
 	@Override
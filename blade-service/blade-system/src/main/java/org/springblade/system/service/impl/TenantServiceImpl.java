@@ -45,6 +45,11 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class TenantServiceImpl extends BaseServiceImpl<TenantMapper, Tenant> implements ITenantService {
 
+	/**
+	 * 批量校验租户编号时单条语句的最大参数个数
+	 */
+	private static final int BATCH_SIZE = 1000;
+
 	private final TenantId tenantId;
 	private final IRoleService roleService;
 	private final IMenuService menuService;
@@ -73,9 +78,39 @@ public class TenantServiceImpl extends BaseServiceImpl<TenantMapper, Tenant> imp
 	@Transactional(rollbackFor = Exception.class)
 	public boolean saveTenant(Tenant tenant) {
 		if (Func.isEmpty(tenant.getId())) {
-			List<Tenant> tenants = baseMapper.selectList(Wrappers.<Tenant>query().lambda().eq(Tenant::getIsDeleted, BladeConstant.DB_NOT_DELETED));
-			List<String> codes = tenants.stream().map(Tenant::getTenantId).collect(Collectors.toList());
-			String tenantId = getTenantId(codes);
+			return provision(Collections.singletonList(tenant));
+		} else {
+			return super.saveOrUpdate(tenant);
+		}
+	}
+
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public boolean saveTenants(List<Tenant> tenants) {
+		if (Func.isEmpty(tenants)) {
+			return true;
+		}
+		List<Tenant> created = tenants.stream().filter(tenant -> Func.isEmpty(tenant.getId())).collect(Collectors.toList());
+		List<Tenant> updated = tenants.stream().filter(tenant -> Func.isNotEmpty(tenant.getId())).collect(Collectors.toList());
+		if (!updated.isEmpty()) {
+			super.updateBatchById(updated);
+		}
+		return created.isEmpty() || provision(created);
+	}
+
+	/**
+	 * 批量开通租户，每类数据只写入一次
+	 *
+	 * @param tenants 新租户集合
+	 * @return boolean
+	 */
+	private boolean provision(List<Tenant> tenants) {
+		List<String> tenantIds = generateTenantIds(tenants.size());
+		List<Role> roles = new ArrayList<>(tenants.size());
+		List<Dept> depts = new ArrayList<>(tenants.size());
+		for (int i = 0; i < tenants.size(); i++) {
+			Tenant tenant = tenants.get(i);
+			String tenantId = tenantIds.get(i);
 			tenant.setTenantId(tenantId);
 			tenant.setAccountNumber(-1);
 			// 新建租户对应的默认角色
@@ -86,18 +121,7 @@ public class TenantServiceImpl extends BaseServiceImpl<TenantMapper, Tenant> imp
 			role.setRoleAlias("admin");
 			role.setSort(2);
 			role.setIsDeleted(0);
-			roleService.save(role);
-			// 新建租户对应的角色菜单权限
-			LinkedList<Menu> userMenus = new LinkedList<>();
-			List<Menu> menus = getMenus(menuCodes, userMenus);
-			List<RoleMenu> roleMenus = new ArrayList<>();
-			menus.forEach(menu -> {
-				RoleMenu roleMenu = new RoleMenu();
-				roleMenu.setMenuId(menu.getId());
-				roleMenu.setRoleId(role.getId());
-				roleMenus.add(roleMenu);
-			});
-			roleMenuService.saveBatch(roleMenus);
+			roles.add(role);
 			// 新建租户对应的默认部门
 			Dept dept = new Dept();
 			dept.setTenantId(tenantId);
@@ -108,51 +132,67 @@ public class TenantServiceImpl extends BaseServiceImpl<TenantMapper, Tenant> imp
 			dept.setDeptCategory(1);
 			dept.setSort(2);
 			dept.setIsDeleted(0);
-			deptService.save(dept);
-			// 新建租户对应的默认管理用户
+			depts.add(dept);
+		}
+		roleService.saveBatch(roles);
+		deptService.saveBatch(depts);
+		// 新建租户对应的角色菜单权限，默认菜单集合只解析一次
+		List<Long> menuIds = menuService.subtreeIds(menuCodes);
+		List<RoleMenu> roleMenus = new ArrayList<>(roles.size() * menuIds.size());
+		roles.forEach(role -> menuIds.forEach(menuId -> {
+			RoleMenu roleMenu = new RoleMenu();
+			roleMenu.setMenuId(menuId);
+			roleMenu.setRoleId(role.getId());
+			roleMenus.add(roleMenu);
+		}));
+		if (!roleMenus.isEmpty()) {
+			roleMenuService.insertBatch(roleMenus);
+		}
+		// 新建租户对应的默认管理用户
+		List<User> users = new ArrayList<>(tenants.size());
+		for (int i = 0; i < tenants.size(); i++) {
 			User user = new User();
-			user.setTenantId(tenantId);
+			user.setTenantId(tenantIds.get(i));
 			user.setName("admin");
 			user.setRealName("admin");
 			user.setAccount("admin");
 			user.setPassword("admin");
-			user.setRoleId(String.valueOf(role.getId()));
-			user.setDeptId(String.valueOf(dept.getId()));
+			user.setRoleId(String.valueOf(roles.get(i).getId()));
+			user.setDeptId(String.valueOf(depts.get(i).getId()));
 			user.setBirthday(new Date());
 			user.setSex(1);
 			user.setIsDeleted(0);
-			boolean temp = super.saveOrUpdate(tenant);
-			R<Boolean> result = userClient.saveUser(user);
-			if (!result.isSuccess()) {
-				throw new ServiceException(result.getMsg());
-			}
-			return temp;
-		} else {
-			return super.saveOrUpdate(tenant);
+			users.add(user);
 		}
-	}
-
-	private String getTenantId(List<String> codes) {
-		String code = tenantId.generate();
-		if (codes.contains(code)) {
-			return getTenantId(codes);
+		boolean temp = super.saveBatch(tenants);
+		R<Boolean> result = userClient.saveUsers(users);
+		if (!result.isSuccess()) {
+			throw new ServiceException(result.getMsg());
 		}
-		return code;
-	}
-
-	private List<Menu> getMenus(List<String> codes, LinkedList<Menu> menus) {
-		codes.forEach(code -> {
-			Menu menu = menuService.getOne(Wrappers.<Menu>query().lambda().eq(Menu::getCode, code).eq(Menu::getIsDeleted, BladeConstant.DB_NOT_DELETED));
-			menus.add(menu);
-			recursion(menu.getId(), menus);
-		});
-		return menus;
+		return temp;
 	}
 
-	private void recursion(Long parentId, LinkedList<Menu> menus) {
-		List<Menu> menuList = menuService.list(Wrappers.<Menu>query().lambda().eq(Menu::getParentId, parentId).eq(Menu::getIsDeleted, BladeConstant.DB_NOT_DELETED));
-		menus.addAll(menuList);
-		menuList.forEach(menu -> recursion(menu.getId(), menus));
+	/**
+	 * 批量生成租户编号，候选编号按批通过 tenant_id 索引一次校验
+	 *
+	 * @param count 数量
+	 * @return 租户编号集合
+	 */
+	private List<String> generateTenantIds(int count) {
+		Set<String> tenantIds = new LinkedHashSet<>(count * 2);
+		while (tenantIds.size() < count) {
+			Set<String> candidates = new HashSet<>();
+			int size = Math.min(count - tenantIds.size(), BATCH_SIZE);
+			while (candidates.size() < size) {
+				String code = tenantId.generate();
+				if (!tenantIds.contains(code)) {
+					candidates.add(code);
+				}
+			}
+			candidates.removeAll(baseMapper.selectExistTenantIds(candidates));
+			tenantIds.addAll(candidates);
+		}
+		return new ArrayList<>(tenantIds);
 	}
 
 }
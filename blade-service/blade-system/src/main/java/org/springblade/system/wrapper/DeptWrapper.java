@@ -22,13 +22,16 @@ import org.springblade.core.tool.node.ForestNodeMerger;
 import org.springblade.core.tool.node.INode;
 import org.springblade.core.tool.utils.BeanUtil;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.system.cache.DictCache;
 import org.springblade.system.cache.SysCache;
 import org.springblade.system.entity.Dept;
 import org.springblade.system.vo.DeptVO;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -56,11 +59,33 @@ public class DeptWrapper extends BaseEntityWrapper<Dept, DeptVO> {
 		return deptVO;
 	}
 
+	/**
+	 * 分页模式：先汇总整页的上级部门，批量查询后再逐行组装，避免逐行远程调用
+	 */
+	@Override
+	public List<DeptVO> listVO(List<Dept> list) {
+		Set<Long> parentIds = list.stream().map(Dept::getParentId)
+			.filter(parentId -> !Func.equals(parentId, BladeConstant.TOP_PARENT_ID)).collect(Collectors.toSet());
+		Map<Long, Dept> parents = SysCache.getDepts(parentIds);
+		Map<String, String> categoryMap = DictCache.getValueMap("org_category");
+		return list.stream().map(dept -> {
+			DeptVO deptVO = Objects.requireNonNull(BeanUtil.copy(dept, DeptVO.class));
+			if (Func.equals(dept.getParentId(), BladeConstant.TOP_PARENT_ID)) {
+				deptVO.setParentName(BladeConstant.TOP_PARENT_NAME);
+			} else {
+				Dept parent = parents.get(dept.getParentId());
+				deptVO.setParentName(parent == null ? StringPool.EMPTY : parent.getDeptName());
+			}
+			deptVO.setDeptCategoryName(categoryMap.getOrDefault(String.valueOf(dept.getDeptCategory()), StringPool.EMPTY));
+			return deptVO;
+		}).collect(Collectors.toList());
+	}
 
 	public List<INode> listNodeVO(List<Dept> list) {
+		Map<String, String> categoryMap = DictCache.getValueMap("org_category");
 		List<INode> collect = list.stream().map(dept -> {
 			DeptVO deptVO = BeanUtil.copy(dept, DeptVO.class);
-			String category = DictCache.getValue("org_category", dept.getDeptCategory());
+			String category = categoryMap.getOrDefault(String.valueOf(dept.getDeptCategory()), StringPool.EMPTY);
 			Objects.requireNonNull(deptVO).setDeptCategoryName(category);
 			return deptVO;
 		}).collect(Collectors.toList());
@@ -68,8 +93,9 @@ public class DeptWrapper extends BaseEntityWrapper<Dept, DeptVO> {
 	}
 
 	public List<INode> listNodeLazyVO(List<DeptVO> list) {
+		Map<String, String> categoryMap = DictCache.getValueMap("org_category");
 		List<INode> collect = list.stream().peek(dept -> {
-			String category = DictCache.getValue("org_category", dept.getDeptCategory());
+			String category = categoryMap.getOrDefault(String.valueOf(dept.getDeptCategory()), StringPool.EMPTY);
 			Objects.requireNonNull(dept).setDeptCategoryName(category);
 		}).collect(Collectors.toList());
 		return ForestNodeMerger.merge(collect);
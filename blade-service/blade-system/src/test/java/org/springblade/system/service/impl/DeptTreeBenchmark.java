@@ -0,0 +1,109 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springblade.system.entity.Dept;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 下级机构查询基准测试
+ *
+ * <p>
+ * 在内存中构造一棵每个节点 branch 个子节点的机构树，对比下级机构查询的各条路径：
+ * ancestorsScan 模拟原先按 ancestors 做 LIKE 匹配的全量扫描，rebuild 为没有任何缓存时每次重建索引，
+ * redisHit 为只命中 Redis 时重建位置索引(不含网络与反序列化)，nearHit 为命中本地缓存。
+ * 运行方式：mvn test-compile 后执行 main 方法，或 java -cp ... org.openjdk.jmh.Main DeptTreeBenchmark
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeptTreeBenchmark {
+
+	@Param({"1000", "10000"})
+	private int size;
+
+	@Param({"10"})
+	private int branch;
+
+	private List<Dept> depts;
+	private DeptTree tree;
+	private Long deptId;
+
+	@Setup
+	public void setup() {
+		depts = new ArrayList<>(size);
+		for (long id = 1; id <= size; id++) {
+			Dept dept = new Dept();
+			dept.setId(id);
+			dept.setTenantId("000000");
+			long parentId = (id == 1) ? 0L : (id - 2) / branch + 1;
+			dept.setParentId(parentId);
+			dept.setAncestors(parentId == 0L ? "0" : depts.get((int) parentId - 1).getAncestors() + "," + parentId);
+			depts.add(dept);
+		}
+		tree = DeptTree.build(depts);
+		// 第二层的第一个机构，下级约为总数的 1/branch
+		deptId = 2L;
+	}
+
+	@Benchmark
+	public List<Dept> ancestorsScan() {
+		String id = String.valueOf(deptId);
+		return depts.stream().filter(dept -> dept.getAncestors().contains(id)).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<Dept> rebuild() {
+		return DeptTree.build(depts).children(deptId);
+	}
+
+	@Benchmark
+	public List<Dept> redisHit() {
+		DeptTree cached = new DeptTree();
+		cached.setOrder(tree.getOrder());
+		cached.setEnds(tree.getEnds());
+		return cached.children(deptId);
+	}
+
+	@Benchmark
+	public List<Dept> nearHit() {
+		return tree.children(deptId);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(DeptTreeBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
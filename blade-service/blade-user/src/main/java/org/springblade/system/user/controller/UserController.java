@@ -36,13 +36,20 @@ import org.springblade.core.tool.constant.RoleConstant;
 import org.springblade.core.tool.utils.StringPool;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.service.IUserService;
+import org.springblade.system.user.vo.UserImportVO;
+import org.springblade.system.user.vo.UserKeysetVO;
 import org.springblade.system.user.vo.UserVO;
 import org.springblade.system.user.wrapper.UserWrapper;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import springfox.documentation.annotations.ApiIgnore;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -116,6 +123,24 @@ public class UserController {
 		return R.data(UserWrapper.build().pageVO(pages));
 	}
 
+	/**
+	 * 游标分页用户列表
+	 */
+	@GetMapping("/keyset")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "account", value = "账号名", paramType = "query", dataType = "string"),
+		@ApiImplicitParam(name = "realName", value = "姓名", paramType = "query", dataType = "string"),
+		@ApiImplicitParam(name = "lastId", value = "上一页返回的nextId，首页不传", paramType = "query", dataType = "long"),
+		@ApiImplicitParam(name = "size", value = "每页数量", paramType = "query", dataType = "int"),
+		@ApiImplicitParam(name = "count", value = "总数统计方式：none、approx、exact", paramType = "query", dataType = "string")
+	})
+	@ApiOperationSupport(order = 3)
+	@ApiOperation(value = "游标分页", notes = "传入account、realName与lastId")
+	@PreAuth(RoleConstant.HAS_ROLE_ADMIN)
+	public R<UserKeysetVO> keyset(@ApiIgnore User user, Long deptId, Long lastId, Integer size, String count, BladeUser bladeUser) {
+		return R.data(userService.selectUserKeyset(user, deptId, (bladeUser.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? StringPool.EMPTY : bladeUser.getTenantId()), lastId, size, count));
+	}
+
 	/**
 	 * 新增或修改
 	 */
@@ -210,4 +235,36 @@ public class UserController {
 		return R.data(list);
 	}
 
+	/**
+	 * 导入用户
+	 */
+	@PostMapping("/import-user")
+	@ApiOperationSupport(order = 11)
+	@ApiOperation(value = "导入用户", notes = "传入CSV文件，首行为列名，account必填")
+	@PreAuth(RoleConstant.HAS_ROLE_ADMIN)
+	@CacheEvict(cacheNames = {USER_CACHE}, allEntries = true)
+	public R<UserImportVO> importUser(@RequestParam MultipartFile file, BladeUser bladeUser) throws IOException {
+		return R.data(userService.importUser(bladeUser.getTenantId(), new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * 导出用户
+	 */
+	@GetMapping("/export-user")
+	@ApiImplicitParams({
+		@ApiImplicitParam(name = "account", value = "账号名", paramType = "query", dataType = "string"),
+		@ApiImplicitParam(name = "realName", value = "姓名", paramType = "query", dataType = "string")
+	})
+	@ApiOperationSupport(order = 12)
+	@ApiOperation(value = "导出用户", notes = "传入account和realName")
+	@PreAuth(RoleConstant.HAS_ROLE_ADMIN)
+	public void exportUser(@ApiIgnore User user, Long deptId, BladeUser bladeUser, HttpServletResponse response) throws IOException {
+		response.setContentType("text/csv");
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=user.csv");
+		Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+		userService.exportUser(user, deptId, (bladeUser.getTenantId().equals(BladeConstant.ADMIN_TENANT_ID) ? StringPool.EMPTY : bladeUser.getTenantId()), writer);
+		writer.flush();
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springblade.system.user.feign;
 
 import lombok.AllArgsConstructor;
 import org.springblade.core.tool.api.R;
+import org.springblade.core.tool.utils.Func;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.entity.UserInfo;
 import org.springblade.system.user.service.IUserService;
@@ -26,6 +27,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 用户服务Feign实现类
  *
@@ -43,16 +46,40 @@ public class UserClient implements IUserClient {
 		return R.data(service.getById(userId));
 	}
 
+	@Override
+	@GetMapping(USER_INFO_BY_IDS)
+	public R<List<User>> userInfoByIds(String userIds) {
+		return R.data(service.listByIds(Func.toLongList(userIds)));
+	}
+
 	@Override
 	@GetMapping(USER_INFO)
 	public R<UserInfo> userInfo(String tenantId, String account) {
 		return R.data(service.userInfo(tenantId, account));
 	}
 
+	@Override
+	@GetMapping(USER_AUTH_INFO)
+	public R<UserInfo> userAuthInfo(String tenantId, String account) {
+		return R.data(service.userAuthInfo(tenantId, account));
+	}
+
 	@Override
 	@PostMapping(SAVE_USER)
 	public R<Boolean> saveUser(@RequestBody User user) {
 		return R.data(service.submit(user));
 	}
 
+	@Override
+	@PostMapping(SAVE_USERS)
+	public R<Boolean> saveUsers(@RequestBody List<User> users) {
+		return R.data(service.submitBatch(users));
+	}
+
+	@Override
+	@PostMapping(UPGRADE_PASSWORD)
+	public R<Boolean> upgradePassword(Long userId, String oldPassword, String password) {
+		return R.data(service.upgradePassword(userId, oldPassword, password));
+	}
+
 }
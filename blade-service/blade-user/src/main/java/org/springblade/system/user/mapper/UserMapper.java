@@ -19,6 +19,7 @@ package org.springblade.system.user.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import org.springblade.system.user.entity.User;
 
 import java.util.List;
@@ -33,13 +34,18 @@ public interface UserMapper extends BaseMapper<User> {
 	/**
 	 * 自定义分页
 	 *
+	 * <p>
+	 * 游标分页与导出同样使用本语句，以便命中按语句id配置的数据权限规则。
+	 * </p>
+	 *
 	 * @param page
 	 * @param user
 	 * @param deptIdList
 	 * @param tenantId
+	 * @param lastId     上一页最后一条记录的主键，为空时不按主键定位
 	 * @return
 	 */
-	List<User> selectUserPage(IPage<User> page, @Param("user") User user, @Param("deptIdList") List<Long> deptIdList, @Param("tenantId") String tenantId);
+	List<User> selectUserPage(IPage<User> page, @Param("user") User user, @Param("deptIdList") List<Long> deptIdList, @Param("tenantId") String tenantId, @Param("lastId") Long lastId);
 
 	/**
 	 * 获取用户
@@ -50,4 +56,12 @@ public interface UserMapper extends BaseMapper<User> {
 	 */
 	User getUser(String tenantId, String account);
 
+	/**
+	 * 流式读取租户下的全部账号
+	 *
+	 * @param tenantId 租户ID
+	 * @param handler  逐条处理
+	 */
+	void selectAccounts(@Param("tenantId") String tenantId, ResultHandler<String> handler);
+
 }
@@ -21,6 +21,12 @@ import com.baomidou.mybatisplus.core.metadata.IPage;
 import org.springblade.core.mp.base.BaseService;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.entity.UserInfo;
+import org.springblade.system.user.vo.UserImportVO;
+import org.springblade.system.user.vo.UserKeysetVO;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
 
 /**
  * 服务类
@@ -37,6 +43,14 @@ public interface IUserService extends BaseService<User> {
 	 */
 	boolean submit(User user);
 
+	/**
+	 * 批量新增用户
+	 *
+	 * @param users
+	 * @return
+	 */
+	boolean submitBatch(List<User> users);
+
 	/**
 	 * 修改用户
 	 *
@@ -54,6 +68,38 @@ public interface IUserService extends BaseService<User> {
 	 */
 	IPage<User> selectUserPage(IPage<User> page, User user, Long deptId, String tenantId);
 
+	/**
+	 * 游标分页
+	 *
+	 * @param user     查询条件
+	 * @param deptId   部门id
+	 * @param tenantId 租户ID
+	 * @param lastId   上一页最后一条记录的主键，首页为空
+	 * @param size     每页数量
+	 * @param count    总数统计方式
+	 * @return
+	 */
+	UserKeysetVO selectUserKeyset(User user, Long deptId, String tenantId, Long lastId, Integer size, String count);
+
+	/**
+	 * 流式导入用户(CSV)
+	 *
+	 * @param tenantId 租户ID
+	 * @param reader   文件内容
+	 * @return
+	 */
+	UserImportVO importUser(String tenantId, Reader reader);
+
+	/**
+	 * 流式导出用户(CSV)，按页写出，不在内存中汇总全部结果，导出范围受分页列表的数据权限约束
+	 *
+	 * @param user     查询条件
+	 * @param deptId   部门id
+	 * @param tenantId 租户ID
+	 * @param writer   输出
+	 */
+	void exportUser(User user, Long deptId, String tenantId, Writer writer);
+
 	/**
 	 * 用户信息
 	 *
@@ -63,6 +109,15 @@ public interface IUserService extends BaseService<User> {
 	 */
 	UserInfo userInfo(String tenantId, String account);
 
+	/**
+	 * 登录所需的用户信息，包含角色别名与租户状态
+	 *
+	 * @param tenantId
+	 * @param account
+	 * @return
+	 */
+	UserInfo userAuthInfo(String tenantId, String account);
+
 	/**
 	 * 给用户设置角色
 	 *
@@ -91,6 +146,16 @@ public interface IUserService extends BaseService<User> {
 	 */
 	boolean updatePassword(Long userId, String oldPassword, String newPassword, String newPassword1);
 
+	/**
+	 * 升级密码加密方式
+	 *
+	 * @param userId      用户id
+	 * @param oldPassword 升级前的密码(含前缀)
+	 * @param password    按新加密方式加密后的密码(含前缀)
+	 * @return
+	 */
+	boolean upgradePassword(Long userId, String oldPassword, String password);
+
 	/**
 	 * 删除用户
 	 *
@@ -19,6 +19,7 @@ package org.springblade.system.user.service.impl;
 
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import lombok.AllArgsConstructor;
 import org.springblade.common.constant.CommonConstant;
 import org.springblade.core.log.exception.ServiceException;
@@ -29,6 +30,7 @@ import org.springblade.core.tool.constant.BladeConstant;
 import org.springblade.core.tool.utils.DateUtil;
 import org.springblade.core.tool.utils.DigestUtil;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.core.tool.utils.StringUtil;
 import org.springblade.system.cache.SysCache;
 import org.springblade.system.entity.Tenant;
@@ -39,11 +41,24 @@ import org.springblade.system.user.entity.UserInfo;
 import org.springblade.system.user.mapper.UserMapper;
 import org.springblade.system.user.service.IUserDeptService;
 import org.springblade.system.user.service.IUserService;
+import org.springblade.system.user.support.CsvReader;
+import org.springblade.system.user.support.CsvWriter;
+import org.springblade.system.user.vo.UserImportVO;
+import org.springblade.system.user.vo.UserKeysetVO;
+import org.springblade.system.user.vo.UserVO;
+import org.springblade.system.user.wrapper.UserWrapper;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 服务实现类
@@ -54,6 +69,59 @@ import java.util.List;
 @AllArgsConstructor
 public class UserServiceImpl extends BaseServiceImpl<UserMapper, User> implements IUserService {
 
+	/**
+	 * 校验登录时已升级加密方式的密码
+	 */
+	private static final PasswordEncoder UPGRADED_PASSWORD_ENCODER = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
+	/**
+	 * 旧密码的加密方式前缀，数据库中不带前缀存储
+	 */
+	private static final String LEGACY_PASSWORD_PREFIX = "{blade}";
+
+	/**
+	 * 允许升级到的加密方式，参数均编码在哈希值中，其他服务无需共享配置即可校验
+	 */
+	private static final List<String> UPGRADE_PASSWORD_PREFIXES = Arrays.asList("{bcrypt}", "{scrypt}");
+
+	/**
+	 * 批量查询时单条语句的最大参数个数
+	 */
+	private static final int BATCH_SIZE = 1000;
+
+	/**
+	 * 游标分页默认及最大每页数量
+	 */
+	private static final int KEYSET_DEFAULT_SIZE = 10;
+	private static final int KEYSET_MAX_SIZE = 1000;
+
+	/**
+	 * 估算总数时的统计上限
+	 */
+	private static final int APPROX_COUNT_LIMIT = 10000;
+
+	/**
+	 * 导入时最多返回的失败原因条数
+	 */
+	private static final int MAX_IMPORT_ERRORS = 100;
+
+	/**
+	 * 导入导出的日期格式
+	 */
+	private static final String DATE_PATTERN = "yyyy-MM-dd";
+
+	/**
+	 * 导入时必填的账号列
+	 */
+	private static final String COLUMN_ACCOUNT = "account";
+
+	/**
+	 * 导出的列，前 9 列与导入的列名一致，可直接回导
+	 */
+	private static final List<String> EXPORT_COLUMNS = Arrays.asList(
+		"account", "name", "realName", "email", "phone", "birthday", "sex", "roleId", "deptId", "roleName", "deptName", "sexName"
+	);
+
 	private IUserDeptService userDeptService;
 	private ISysClient sysClient;
 
@@ -82,6 +150,239 @@ public class UserServiceImpl extends BaseServiceImpl<UserMapper, User> implement
 		return save(user) && submitUserDept(user);
 	}
 
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public boolean submitBatch(List<User> users) {
+		if (Func.isEmpty(users)) {
+			return true;
+		}
+		users.forEach(user -> {
+			if (StringUtil.isBlank(user.getTenantId())) {
+				user.setTenantId(BladeConstant.ADMIN_TENANT_ID);
+			}
+			if (Func.isNotEmpty(user.getPassword())) {
+				user.setPassword(DigestUtil.encrypt(user.getPassword()));
+			}
+		});
+		Map<String, List<User>> tenantUsers = users.stream().collect(Collectors.groupingBy(User::getTenantId, LinkedHashMap::new, Collectors.toList()));
+		// 一次查出相关租户的现有账号，用于账号额度与重复账号校验
+		Map<String, Set<String>> existAccounts = new HashMap<>(tenantUsers.size() * 2);
+		List<String> tenantIds = new ArrayList<>(tenantUsers.keySet());
+		for (int from = 0; from < tenantIds.size(); from += BATCH_SIZE) {
+			List<String> batch = tenantIds.subList(from, Math.min(from + BATCH_SIZE, tenantIds.size()));
+			baseMapper.selectList(Wrappers.<User>query().lambda().select(User::getTenantId, User::getAccount).in(User::getTenantId, batch))
+				.forEach(user -> existAccounts.computeIfAbsent(user.getTenantId(), key -> new HashSet<>()).add(user.getAccount()));
+		}
+		tenantUsers.forEach((tenantId, list) -> {
+			Set<String> accounts = existAccounts.getOrDefault(tenantId, new HashSet<>());
+			// 与逐条新增时的额度校验保持一致：最后一条新增前的账号数不得超过额度
+			int peakCount = accounts.size() + list.size() - 1;
+			if (peakCount > 0) {
+				Tenant tenant = SysCache.getTenant(tenantId);
+				if (Func.isNotEmpty(tenant)) {
+					Integer accountNumber = tenant.getAccountNumber();
+					if (accountNumber != null && accountNumber > 0 && accountNumber < peakCount) {
+						throw new ServiceException("当前租户已到最大账号额度");
+					}
+				}
+			}
+			list.forEach(user -> {
+				if (!accounts.add(user.getAccount())) {
+					throw new ServiceException("当前用户已存在!");
+				}
+			});
+		});
+		return saveBatch(users) && saveUserDepts(users);
+	}
+
+	/**
+	 * 批量写入新用户的部门关联
+	 */
+	private boolean saveUserDepts(List<User> users) {
+		List<UserDept> userDeptList = new ArrayList<>();
+		users.forEach(user -> Func.toLongList(user.getDeptId()).forEach(deptId -> {
+			UserDept userDept = new UserDept();
+			userDept.setUserId(user.getId());
+			userDept.setDeptId(deptId);
+			userDeptList.add(userDept);
+		}));
+		return userDeptList.isEmpty() || userDeptService.saveBatch(userDeptList);
+	}
+
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public UserImportVO importUser(String tenantId, Reader reader) {
+		if (StringUtil.isBlank(tenantId)) {
+			tenantId = BladeConstant.ADMIN_TENANT_ID;
+		}
+		Tenant tenant = SysCache.getTenant(tenantId);
+		Integer accountNumber = Func.isNotEmpty(tenant) ? tenant.getAccountNumber() : null;
+		// 预加载租户现有账号，逐行校验时不再查询数据库
+		Set<String> accounts = new HashSet<>();
+		baseMapper.selectAccounts(tenantId, context -> accounts.add(context.getResultObject()));
+		UserImportVO result = new UserImportVO();
+		List<User> chunk = new ArrayList<>(BATCH_SIZE);
+		try (CsvReader csv = new CsvReader(reader)) {
+			List<String> header = csv.next();
+			if (header == null) {
+				return result;
+			}
+			Map<String, Integer> columns = new HashMap<>(header.size() * 2);
+			for (int i = 0; i < header.size(); i++) {
+				columns.putIfAbsent(header.get(i).trim(), i);
+			}
+			if (!columns.containsKey(COLUMN_ACCOUNT)) {
+				throw new ServiceException("导入文件缺少 account 列");
+			}
+			List<String> row;
+			while ((row = csv.next()) != null) {
+				if (row.stream().allMatch(StringUtil::isBlank)) {
+					continue;
+				}
+				result.setTotal(result.getTotal() + 1);
+				try {
+					User user = toUser(row, columns, tenantId);
+					if (accountNumber != null && accountNumber > 0 && accountNumber < accounts.size()) {
+						throw new ServiceException("当前租户已到最大账号额度");
+					}
+					if (!accounts.add(user.getAccount())) {
+						throw new ServiceException("当前用户已存在!");
+					}
+					// 与新增用户采用相同的加密方式，登录时按认证服务的配置升级
+					user.setPassword(DigestUtil.encrypt(Func.toStr(user.getPassword(), CommonConstant.DEFAULT_PASSWORD)));
+					chunk.add(user);
+				} catch (ServiceException e) {
+					result.setFailure(result.getFailure() + 1);
+					if (result.getErrors().size() < MAX_IMPORT_ERRORS) {
+						result.getErrors().add("第" + csv.getLineNumber() + "行：" + e.getMessage());
+					}
+				}
+				if (chunk.size() >= BATCH_SIZE) {
+					result.setSuccess(result.getSuccess() + importChunk(chunk));
+				}
+			}
+		} catch (IOException e) {
+			throw new ServiceException("导入文件读取失败");
+		}
+		result.setSuccess(result.getSuccess() + importChunk(chunk));
+		return result;
+	}
+
+	/**
+	 * 批量写入一批用户及其部门关联，写入后清空缓冲
+	 */
+	private int importChunk(List<User> chunk) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+		saveBatch(chunk);
+		saveUserDepts(chunk);
+		int size = chunk.size();
+		chunk.clear();
+		return size;
+	}
+
+	/**
+	 * 按表头将一行数据转换为用户
+	 */
+	private static User toUser(List<String> row, Map<String, Integer> columns, String tenantId) {
+		User user = new User();
+		user.setTenantId(tenantId);
+		user.setAccount(cell(row, columns, COLUMN_ACCOUNT));
+		if (StringUtil.isBlank(user.getAccount())) {
+			throw new ServiceException("账号不能为空");
+		}
+		user.setPassword(cell(row, columns, "password"));
+		user.setName(cell(row, columns, "name"));
+		user.setRealName(cell(row, columns, "realName"));
+		user.setEmail(cell(row, columns, "email"));
+		user.setPhone(cell(row, columns, "phone"));
+		String birthday = cell(row, columns, "birthday");
+		if (StringUtil.isNotBlank(birthday)) {
+			SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+			format.setLenient(false);
+			try {
+				user.setBirthday(format.parse(birthday));
+			} catch (ParseException e) {
+				throw new ServiceException("生日格式应为 " + DATE_PATTERN);
+			}
+		}
+		String sex = cell(row, columns, "sex");
+		if (StringUtil.isNotBlank(sex)) {
+			if (!StringUtil.isNumeric(sex)) {
+				throw new ServiceException("性别应为数字编号");
+			}
+			user.setSex(Integer.valueOf(sex));
+		}
+		user.setRoleId(idCell(row, columns, "roleId", "角色"));
+		user.setDeptId(idCell(row, columns, "deptId", "部门"));
+		user.setIsDeleted(BladeConstant.DB_NOT_DELETED);
+		return user;
+	}
+
+	/**
+	 * 读取逗号分隔的主键列
+	 */
+	private static String idCell(List<String> row, Map<String, Integer> columns, String column, String title) {
+		String value = cell(row, columns, column);
+		if (StringUtil.isBlank(value)) {
+			return null;
+		}
+		for (String id : Func.toStrArray(value)) {
+			if (!StringUtil.isNumeric(id.trim())) {
+				throw new ServiceException(title + "编号格式错误");
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 读取单元格，去除导出时为防止公式注入添加的单引号前缀
+	 */
+	private static String cell(List<String> row, Map<String, Integer> columns, String column) {
+		Integer index = columns.get(column);
+		if (index == null || index >= row.size()) {
+			return null;
+		}
+		String value = row.get(index).trim();
+		if (value.length() > 1 && value.charAt(0) == '\'' && CsvWriter.FORMULA_PREFIX.indexOf(value.charAt(1)) >= 0) {
+			value = value.substring(1);
+		}
+		return value.isEmpty() ? null : value;
+	}
+
+	@Override
+	public void exportUser(User user, Long deptId, String tenantId, Writer writer) {
+		User condition = (user == null) ? new User() : user;
+		List<Long> deptIdList = SysCache.getDeptChildIds(deptId);
+		SimpleDateFormat format = new SimpleDateFormat(DATE_PATTERN);
+		CsvWriter csv = new CsvWriter(writer);
+		try {
+			csv.writeBom();
+			csv.writeRow(EXPORT_COLUMNS);
+			Long lastId = null;
+			while (true) {
+				List<User> users = baseMapper.selectUserPage(new Page<>(1, BATCH_SIZE, false), condition, deptIdList, tenantId, lastId);
+				for (UserVO userVO : UserWrapper.build().listVO(users)) {
+					csv.writeRow(Arrays.asList(
+						userVO.getAccount(), userVO.getName(), userVO.getRealName(), userVO.getEmail(), userVO.getPhone(),
+						userVO.getBirthday() == null ? null : format.format(userVO.getBirthday()),
+						userVO.getSex() == null ? null : String.valueOf(userVO.getSex()),
+						userVO.getRoleId(), userVO.getDeptId(), userVO.getRoleName(), userVO.getDeptName(), userVO.getSexName()
+					));
+				}
+				// 每页写出后立即刷新，内存中只保留一页数据
+				csv.flush();
+				if (users.size() < BATCH_SIZE) {
+					break;
+				}
+				lastId = users.get(users.size() - 1).getId();
+			}
+		} catch (IOException e) {
+			throw new ServiceException("用户导出失败");
+		}
+	}
+
 	@Override
 	@Transactional(rollbackFor = Exception.class)
 	public boolean updateUser(User user) {
@@ -105,7 +406,46 @@ public class UserServiceImpl extends BaseServiceImpl<UserMapper, User> implement
 	@Override
 	public IPage<User> selectUserPage(IPage<User> page, User user, Long deptId, String tenantId) {
 		List<Long> deptIdList = SysCache.getDeptChildIds(deptId);
-		return page.setRecords(baseMapper.selectUserPage(page, user, deptIdList, tenantId));
+		return page.setRecords(baseMapper.selectUserPage(page, user, deptIdList, tenantId, null));
+	}
+
+	@Override
+	public UserKeysetVO selectUserKeyset(User user, Long deptId, String tenantId, Long lastId, Integer size, String count) {
+		int pageSize = (size == null || size <= 0) ? KEYSET_DEFAULT_SIZE : Math.min(size, KEYSET_MAX_SIZE);
+		List<Long> deptIdList = SysCache.getDeptChildIds(deptId);
+		// 与分页列表共用同一语句以应用数据权限，按主键定位起点，多取一条用于判断是否还有下一页
+		List<User> users = baseMapper.selectUserPage(new Page<>(1, pageSize + 1, false), user, deptIdList, tenantId, lastId);
+		UserKeysetVO keyset = new UserKeysetVO();
+		keyset.setSize(pageSize);
+		if (users.size() > pageSize) {
+			users = users.subList(0, pageSize);
+			keyset.setNextId(users.get(pageSize - 1).getId());
+		}
+		keyset.setRecords(UserWrapper.build().listVO(users));
+		if (UserKeysetVO.COUNT_EXACT.equals(count)) {
+			keyset.setTotal(countUser(user, deptIdList, tenantId));
+			keyset.setApproximate(false);
+		} else if (UserKeysetVO.COUNT_APPROX.equals(count)) {
+			// 先探测第上限条记录是否存在，超过上限时不再精确计数
+			List<User> probe = baseMapper.selectUserPage(new Page<>(APPROX_COUNT_LIMIT, 1, false), user, deptIdList, tenantId, null);
+			if (probe.isEmpty()) {
+				keyset.setTotal(countUser(user, deptIdList, tenantId));
+				keyset.setApproximate(false);
+			} else {
+				keyset.setTotal((long) APPROX_COUNT_LIMIT);
+				keyset.setApproximate(true);
+			}
+		}
+		return keyset;
+	}
+
+	/**
+	 * 统计数据权限范围内满足条件的用户数
+	 */
+	private long countUser(User user, List<Long> deptIdList, String tenantId) {
+		Page<User> page = new Page<>(1, 1);
+		baseMapper.selectUserPage(page, user, deptIdList, tenantId, null);
+		return page.getTotal();
 	}
 
 	@Override
@@ -123,6 +463,22 @@ public class UserServiceImpl extends BaseServiceImpl<UserMapper, User> implement
 		return userInfo;
 	}
 
+	@Override
+	public UserInfo userAuthInfo(String tenantId, String account) {
+		UserInfo userInfo = new UserInfo();
+		Tenant tenant = SysCache.getTenant(tenantId);
+		userInfo.setTenantExist(tenant != null);
+		if (tenant != null) {
+			userInfo.setTenantExpireTime(tenant.getExpireTime());
+		}
+		User user = baseMapper.getUser(tenantId, account);
+		userInfo.setUser(user);
+		if (Func.isNotEmpty(user)) {
+			userInfo.setRoles(SysCache.getRoleAliases(user.getRoleId()));
+		}
+		return userInfo;
+	}
+
 	@Override
 	public boolean grant(String userIds, String roleIds) {
 		User user = new User();
@@ -144,12 +500,50 @@ public class UserServiceImpl extends BaseServiceImpl<UserMapper, User> implement
 		if (!newPassword.equals(newPassword1)) {
 			throw new ServiceException("请输入正确的确认密码!");
 		}
-		if (!user.getPassword().equals(DigestUtil.encrypt(oldPassword))) {
+		if (!passwordMatches(oldPassword, user.getPassword())) {
 			throw new ServiceException("原密码不正确!");
 		}
 		return this.update(Wrappers.<User>update().lambda().set(User::getPassword, DigestUtil.encrypt(newPassword)).eq(User::getId, userId));
 	}
 
+	@Override
+	public boolean upgradePassword(Long userId, String oldPassword, String password) {
+		if (userId == null || StringUtil.isBlank(oldPassword) || StringUtil.isBlank(password) || oldPassword.equals(password)) {
+			return false;
+		}
+		if (UPGRADE_PASSWORD_PREFIXES.stream().noneMatch(password::startsWith)) {
+			return false;
+		}
+		// 旧密码在数据库中可能不带前缀，两种形式均可匹配；数据库中的密码已被修改时不再覆盖
+		List<String> storedPasswords = new ArrayList<>(2);
+		storedPasswords.add(oldPassword);
+		if (oldPassword.startsWith(LEGACY_PASSWORD_PREFIX)) {
+			storedPasswords.add(oldPassword.substring(LEGACY_PASSWORD_PREFIX.length()));
+		}
+		return this.update(Wrappers.<User>update().lambda().set(User::getPassword, password)
+			.eq(User::getId, userId).in(User::getPassword, storedPasswords));
+	}
+
+	/**
+	 * 校验密码，兼容登录时升级为 {bcrypt} 等带前缀格式的密码
+	 *
+	 * @param rawPassword     明文密码
+	 * @param encodedPassword 数据库中的密码
+	 * @return boolean
+	 */
+	private static boolean passwordMatches(String rawPassword, String encodedPassword) {
+		if (encodedPassword == null) {
+			return false;
+		}
+		if (encodedPassword.startsWith(LEGACY_PASSWORD_PREFIX)) {
+			return encodedPassword.substring(LEGACY_PASSWORD_PREFIX.length()).equals(DigestUtil.encrypt(rawPassword));
+		}
+		if (encodedPassword.startsWith(StringPool.LEFT_BRACE)) {
+			return UPGRADED_PASSWORD_ENCODER.matches(rawPassword, encodedPassword);
+		}
+		return encodedPassword.equals(DigestUtil.encrypt(rawPassword));
+	}
+
 	@Override
 	public boolean removeUser(String userIds) {
 		if (Func.contains(Func.toLongArray(userIds), SecureUtil.getUserId())) {
@@ -0,0 +1,136 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.user.support;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 流式读取器
+ *
+ * <p>
+ * 按 RFC 4180 逐条解析，支持引号转义及字段内换行，自动跳过 UTF-8 BOM。
+ * 每次只持有当前一行，内存占用与文件大小无关。
+ * </p>
+ *
+ * @author Chill
+ */
+public class CsvReader implements Closeable {
+
+	private static final char QUOTE = '"';
+	private static final char SEPARATOR = ',';
+	private static final char BOM = '\uFEFF';
+
+	private final Reader reader;
+	private final char[] buffer = new char[8192];
+	private int position;
+	private int limit;
+	private boolean started;
+	private long lineNumber;
+
+	public CsvReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * 读取下一条记录
+	 *
+	 * @return 字段集合，已读完返回 null
+	 * @throws IOException 读取异常
+	 */
+	public List<String> next() throws IOException {
+		int c = read();
+		if (!started) {
+			started = true;
+			if (c == BOM) {
+				c = read();
+			}
+		}
+		if (c == -1) {
+			return null;
+		}
+		lineNumber++;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					fields.add(field.toString());
+					return fields;
+				}
+				if (c == QUOTE) {
+					int next = read();
+					if (next == QUOTE) {
+						field.append(QUOTE);
+					} else {
+						quoted = false;
+						c = next;
+						continue;
+					}
+				} else {
+					field.append((char) c);
+				}
+			} else if (c == QUOTE && field.length() == 0) {
+				quoted = true;
+			} else if (c == SEPARATOR) {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r') {
+					int next = read();
+					if (next != '\n' && next != -1) {
+						position--;
+					}
+				}
+				fields.add(field.toString());
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	/**
+	 * 最近一条记录的序号，从 1 开始
+	 */
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	private int read() throws IOException {
+		if (position >= limit) {
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		return buffer[position++];
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.user.support;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * CSV 流式写入器
+ *
+ * <p>
+ * 含分隔符、引号或换行的字段按 RFC 4180 加引号转义，以 "=+-@"、制表符或回车开头的字段加前缀单引号，
+ * 避免在 Excel 中被当作公式执行。
+ * </p>
+ *
+ * @author Chill
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+	private static final char BOM = '\uFEFF';
+
+	/**
+	 * 可能被表格软件当作公式起始的字符
+	 */
+	public static final String FORMULA_PREFIX = "=+-@\t\r";
+
+	private final Writer writer;
+
+	public CsvWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * 写入 UTF-8 BOM，使 Excel 能正确识别中文
+	 *
+	 * @throws IOException 写入异常
+	 */
+	public void writeBom() throws IOException {
+		writer.write(BOM);
+	}
+
+	/**
+	 * 写入一条记录
+	 *
+	 * @param fields 字段集合
+	 * @throws IOException 写入异常
+	 */
+	public void writeRow(List<String> fields) throws IOException {
+		for (int i = 0; i < fields.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writeField(fields.get(i));
+		}
+		writer.write("\r\n");
+	}
+
+	private void writeField(String field) throws IOException {
+		if (field == null || field.isEmpty()) {
+			return;
+		}
+		if (FORMULA_PREFIX.indexOf(field.charAt(0)) >= 0) {
+			field = "'" + field;
+		}
+		boolean quote = false;
+		for (int i = 0; i < field.length() && !quote; i++) {
+			char c = field.charAt(i);
+			quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+		}
+		if (!quote) {
+			writer.write(field);
+			return;
+		}
+		writer.write('"');
+		writer.write(field.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+}
@@ -19,13 +19,17 @@ package org.springblade.system.user.wrapper;
 import org.springblade.core.mp.support.BaseEntityWrapper;
 import org.springblade.core.tool.utils.BeanUtil;
 import org.springblade.core.tool.utils.Func;
+import org.springblade.core.tool.utils.StringPool;
 import org.springblade.system.cache.DictCache;
 import org.springblade.system.cache.SysCache;
+import org.springblade.system.entity.Dept;
+import org.springblade.system.entity.Role;
 import org.springblade.system.user.entity.User;
 import org.springblade.system.user.vo.UserVO;
 
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 包装类,返回视图层所需的字段
@@ -50,4 +54,31 @@ public class UserWrapper extends BaseEntityWrapper<User, UserVO> {
 		return userVO;
 	}
 
+	/**
+	 * 分页模式：先汇总整页的角色、部门，批量查询后再逐行组装，避免逐行远程调用
+	 */
+	@Override
+	public List<UserVO> listVO(List<User> list) {
+		Set<Long> roleIds = new HashSet<>();
+		Set<Long> deptIds = new HashSet<>();
+		list.forEach(user -> {
+			roleIds.addAll(Func.toLongList(user.getRoleId()));
+			deptIds.addAll(Func.toLongList(user.getDeptId()));
+		});
+		Map<Long, Role> roles = SysCache.getRoles(roleIds);
+		Map<Long, Dept> depts = SysCache.getDepts(deptIds);
+		Map<String, String> sexMap = DictCache.getValueMap("sex");
+		return list.stream().map(user -> {
+			UserVO userVO = Objects.requireNonNull(BeanUtil.copy(user, UserVO.class));
+			userVO.setRoleName(joinNames(user.getRoleId(), roles, Role::getRoleName));
+			userVO.setDeptName(joinNames(user.getDeptId(), depts, Dept::getDeptName));
+			userVO.setSexName(sexMap.getOrDefault(String.valueOf(Func.toInt(user.getSex())), StringPool.EMPTY));
+			return userVO;
+		}).collect(Collectors.toList());
+	}
+
+	private static <T> String joinNames(String ids, Map<Long, T> source, Function<T, String> mapper) {
+		return Func.join(Func.toLongList(ids).stream().map(source::get).filter(Objects::nonNull).map(mapper).collect(Collectors.toList()));
+	}
+
 }
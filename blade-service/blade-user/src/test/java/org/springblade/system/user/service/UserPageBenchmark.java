@@ -0,0 +1,208 @@
+/*
+ *      Copyright (c) 2018-2028, Chill Zhuang All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice,
+ *  this list of conditions and the following disclaimer.
+ *  Redistributions in binary form must reproduce the above copyright
+ *  notice, this list of conditions and the following disclaimer in the
+ *  documentation and/or other materials provided with the distribution.
+ *  Neither the name of the dreamlu.net developer nor the names of its
+ *  contributors may be used to endorse or promote products derived from
+ *  this software without specific prior written permission.
+ *  Author: Chill 庄骞 (smallchill@163.com)
+ */
+package org.springblade.system.user.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 用户列表分页基准测试
+ *
+ * <p>
+ * 在 MySQL 中对比偏移分页与游标分页在不同深度下的耗时，以及精确计数与带上限计数的耗时。
+ * SQL 与 UserMapper.selectUserPage 一致，并按数据权限拦截器的方式包一层 scope 子查询。
+ * 测试表 blade_user_benchmark 按 blade_user 建表(含索引)，数据不足时自动写入 benchmark.rows 条(默认 100 万)用户。
+ * 运行方式：mvn test-compile 后执行 main 方法，连接通过 -Dbenchmark.jdbc.url、-Dbenchmark.jdbc.username、
+ * -Dbenchmark.jdbc.password 指定。
+ * </p>
+ *
+ * @author Chill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPageBenchmark {
+
+	private static final String TABLE = "blade_user_benchmark";
+	private static final String TENANT_ID = "000000";
+	private static final int DEPT_COUNT = 100;
+	private static final int PAGE_SIZE = 10;
+	private static final int APPROX_COUNT_LIMIT = 10000;
+	private static final int INSERT_BATCH = 5000;
+
+	private static final String LIST_SQL = "select id, tenant_id, account, name, real_name, avatar, email, phone, birthday, sex, role_id, dept_id, status, " +
+		"create_user, create_dept, create_time from " + TABLE + " where is_deleted = 0 and tenant_id = ?";
+	private static final String SCOPE_SQL = "select * from (%s) scope where scope.create_dept in (?, ?, ?, ?, ?)";
+
+	/**
+	 * 翻页深度(第几条记录开始)
+	 */
+	@Param({"0", "10000", "100000", "500000", "990000"})
+	private int position;
+
+	private Connection connection;
+	private PreparedStatement offsetPage;
+	private PreparedStatement keysetPage;
+	private PreparedStatement exactCount;
+	private PreparedStatement cappedProbe;
+	private long lastId;
+
+	@Setup
+	public void setup() throws SQLException {
+		String url = System.getProperty("benchmark.jdbc.url", "jdbc:mysql://localhost:3306/bladex?useSSL=false&serverTimezone=GMT%2B8&rewriteBatchedStatements=true");
+		connection = DriverManager.getConnection(url, System.getProperty("benchmark.jdbc.username", "root"), System.getProperty("benchmark.jdbc.password", "root"));
+		seed(Integer.getInteger("benchmark.rows", 1_000_000));
+		offsetPage = connection.prepareStatement(scope(LIST_SQL + " order by id") + " limit ?, ?");
+		keysetPage = connection.prepareStatement(scope(LIST_SQL + " and id > ? order by id") + " limit ?");
+		exactCount = connection.prepareStatement("select count(1) from (" + scope(LIST_SQL) + ") total");
+		cappedProbe = connection.prepareStatement(scope(LIST_SQL + " order by id") + " limit ?, 1");
+		// 游标分页的起点取偏移分页同一位置的上一条主键，保证两者返回相同的数据
+		lastId = 0L;
+		if (position > 0) {
+			bind(offsetPage, 1);
+			offsetPage.setInt(7, position - 1);
+			offsetPage.setInt(8, 1);
+			try (ResultSet rs = offsetPage.executeQuery()) {
+				if (rs.next()) {
+					lastId = rs.getLong(1);
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void offset(Blackhole blackhole) throws SQLException {
+		bind(offsetPage, 1);
+		offsetPage.setInt(7, position);
+		offsetPage.setInt(8, PAGE_SIZE);
+		consume(offsetPage, blackhole);
+	}
+
+	@Benchmark
+	public void keyset(Blackhole blackhole) throws SQLException {
+		keysetPage.setString(1, TENANT_ID);
+		keysetPage.setLong(2, lastId);
+		bindDepts(keysetPage, 3);
+		keysetPage.setInt(8, PAGE_SIZE);
+		consume(keysetPage, blackhole);
+	}
+
+	@Benchmark
+	public void countExact(Blackhole blackhole) throws SQLException {
+		bind(exactCount, 1);
+		consume(exactCount, blackhole);
+	}
+
+	@Benchmark
+	public void countApprox(Blackhole blackhole) throws SQLException {
+		bind(cappedProbe, 1);
+		cappedProbe.setInt(7, APPROX_COUNT_LIMIT - 1);
+		consume(cappedProbe, blackhole);
+	}
+
+	private static String scope(String sql) {
+		return String.format(SCOPE_SQL, sql);
+	}
+
+	private static void bind(PreparedStatement statement, int index) throws SQLException {
+		statement.setString(index, TENANT_ID);
+		bindDepts(statement, index + 1);
+	}
+
+	private static void bindDepts(PreparedStatement statement, int index) throws SQLException {
+		// 数据权限范围为一半的部门
+		for (int i = 0; i < 5; i++) {
+			statement.setLong(index + i, i * 2);
+		}
+	}
+
+	private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+		try (ResultSet rs = statement.executeQuery()) {
+			while (rs.next()) {
+				blackhole.consume(rs.getLong(1));
+			}
+		}
+	}
+
+	private void seed(int rows) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("create table if not exists " + TABLE + " like blade_user");
+			try (ResultSet rs = statement.executeQuery("select count(1) from " + TABLE)) {
+				if (rs.next() && rs.getLong(1) >= rows) {
+					return;
+				}
+			}
+			statement.execute("truncate table " + TABLE);
+		}
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+		String sql = "insert into " + TABLE + " (id, tenant_id, account, password, name, real_name, email, phone, sex, role_id, dept_id, " +
+			"create_user, create_dept, create_time, status, is_deleted) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 0)";
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		try (PreparedStatement insert = connection.prepareStatement(sql)) {
+			for (int i = 1; i <= rows; i++) {
+				long dept = i % DEPT_COUNT;
+				insert.setLong(1, i);
+				insert.setString(2, TENANT_ID);
+				insert.setString(3, "user" + i);
+				insert.setString(4, "90b9aa7e25f80cf4f64e990b78a9fc5ebd6cecad");
+				insert.setString(5, "user" + i);
+				insert.setString(6, "user" + i);
+				insert.setString(7, "user" + i + "@bladex.vip");
+				insert.setString(8, "13800000000");
+				insert.setInt(9, i % 2);
+				insert.setString(10, "1123598816738675201");
+				insert.setString(11, String.valueOf(dept));
+				insert.setLong(12, 1L);
+				insert.setLong(13, dept);
+				insert.setTimestamp(14, now);
+				insert.addBatch();
+				if (i % INSERT_BATCH == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(UserPageBenchmark.class.getSimpleName())
+			.build();
+		new Runner(options).run();
+	}
+
+}
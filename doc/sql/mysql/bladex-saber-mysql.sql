@@ -514,7 +514,8 @@ CREATE TABLE `blade_tenant`  (
   `update_time` datetime(0) NULL DEFAULT NULL COMMENT '修改时间',
   `status` int(2) NULL DEFAULT NULL COMMENT '状态',
   `is_deleted` int(2) NULL DEFAULT 0 COMMENT '是否已删除',
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_tenant_tenant_id`(`tenant_id`) USING BTREE
 ) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '租户表';
 
 -- ----------------------------
@@ -581,7 +582,8 @@ CREATE TABLE `blade_user`  (
   `update_time` datetime(0) NULL DEFAULT NULL COMMENT '修改时间',
   `status` int(2) NULL DEFAULT NULL COMMENT '状态',
   `is_deleted` int(2) NULL DEFAULT 0 COMMENT '是否已删除',
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_tenant_id`(`tenant_id`, `is_deleted`, `id`) USING BTREE
 ) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '用户表';
 
 -- ----------------------------
@@ -599,7 +601,8 @@ CREATE TABLE `blade_user_dept`  (
   `id` bigint(64) NOT NULL COMMENT '主键',
   `user_id` bigint(64) NULL DEFAULT 0 COMMENT '用户ID',
   `dept_id` bigint(64) NULL DEFAULT 0 COMMENT '部门ID',
-  PRIMARY KEY (`id`) USING BTREE
+  PRIMARY KEY (`id`) USING BTREE,
+  INDEX `idx_user_dept_dept_id`(`dept_id`, `user_id`) USING BTREE
 ) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '用户部门表';
 
 -- ----------------------------
@@ -2023,6 +2023,12 @@ ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0019500" CHECK ("TENANT_NAME" IS
 ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0020273" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0020274" CHECK ("TENANT_NAME" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 
+-- ----------------------------
+-- Indexes structure for table BLADE_TENANT
+-- ----------------------------
+CREATE INDEX "IDX_TENANT_TENANT_ID"
+  ON "BLADE_TENANT" ("TENANT_ID" ASC);
+
 -- ----------------------------
 -- Primary Key structure for table BLADE_TOP_MENU
 -- ----------------------------
@@ -2065,6 +2071,12 @@ ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0019211" CHECK ("ID" IS NOT NULL)
 ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0019503" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0020277" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 
+-- ----------------------------
+-- Indexes structure for table BLADE_USER
+-- ----------------------------
+CREATE INDEX "IDX_USER_TENANT_ID"
+  ON "BLADE_USER" ("TENANT_ID" ASC, "IS_DELETED" ASC, "ID" ASC);
+
 -- ----------------------------
 -- Primary Key structure for table BLADE_USER_DEPT
 -- ----------------------------
@@ -2075,3 +2087,9 @@ ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0019621" PRIMARY KEY ("ID");
 -- ----------------------------
 ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0019620" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0020278" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
+
+-- ----------------------------
+-- Indexes structure for table BLADE_USER_DEPT
+-- ----------------------------
+CREATE INDEX "IDX_USER_DEPT_DEPT_ID"
+  ON "BLADE_USER_DEPT" ("DEPT_ID" ASC, "USER_ID" ASC);
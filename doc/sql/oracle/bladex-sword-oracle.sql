@@ -2021,6 +2021,12 @@ ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0019650" CHECK ("TENANT_NAME" IS
 ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0020639" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_TENANT" ADD CONSTRAINT "SYS_C0020640" CHECK ("TENANT_NAME" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 
+-- ----------------------------
+-- Indexes structure for table BLADE_TENANT
+-- ----------------------------
+CREATE INDEX "IDX_TENANT_TENANT_ID"
+  ON "BLADE_TENANT" ("TENANT_ID" ASC);
+
 -- ----------------------------
 -- Primary Key structure for table BLADE_TOP_MENU
 -- ----------------------------
@@ -2063,6 +2069,12 @@ ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0019327" CHECK ("ID" IS NOT NULL)
 ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0019653" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_USER" ADD CONSTRAINT "SYS_C0020643" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 
+-- ----------------------------
+-- Indexes structure for table BLADE_USER
+-- ----------------------------
+CREATE INDEX "IDX_USER_TENANT_ID"
+  ON "BLADE_USER" ("TENANT_ID" ASC, "IS_DELETED" ASC, "ID" ASC);
+
 -- ----------------------------
 -- Primary Key structure for table BLADE_USER_DEPT
 -- ----------------------------
@@ -2073,3 +2085,9 @@ ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0019771" PRIMARY KEY ("ID");
 -- ----------------------------
 ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0019770" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
 ALTER TABLE "BLADE_USER_DEPT" ADD CONSTRAINT "SYS_C0020644" CHECK ("ID" IS NOT NULL) NOT DEFERRABLE INITIALLY IMMEDIATE NORELY VALIDATE;
+
+-- ----------------------------
+-- Indexes structure for table BLADE_USER_DEPT
+-- ----------------------------
+CREATE INDEX "IDX_USER_DEPT_DEPT_ID"
+  ON "BLADE_USER_DEPT" ("DEPT_ID" ASC, "USER_ID" ASC);
@@ -1450,6 +1450,13 @@ ALTER TABLE "blade_scope_api" ADD CONSTRAINT "blade_scope_api_pkey" PRIMARY KEY
 -- ----------------------------
 ALTER TABLE "blade_scope_data" ADD CONSTRAINT "blade_scope_data_pkey" PRIMARY KEY ("id");
 
+-- ----------------------------
+-- Indexes structure for table blade_tenant
+-- ----------------------------
+CREATE INDEX "idx_tenant_tenant_id" ON "blade_tenant" USING btree (
+  "tenant_id" ASC NULLS LAST
+);
+
 -- ----------------------------
 -- Primary Key structure for table blade_tenant
 -- ----------------------------
@@ -1465,11 +1472,28 @@ ALTER TABLE "blade_top_menu" ADD CONSTRAINT "blade_top_menu_pkey" PRIMARY KEY ("
 -- ----------------------------
 ALTER TABLE "blade_top_menu_setting" ADD CONSTRAINT "blade_top_menu_setting_pkey" PRIMARY KEY ("id");
 
+-- ----------------------------
+-- Indexes structure for table blade_user
+-- ----------------------------
+CREATE INDEX "idx_user_tenant_id" ON "blade_user" USING btree (
+  "tenant_id" ASC NULLS LAST,
+  "is_deleted" ASC NULLS LAST,
+  "id" ASC NULLS LAST
+);
+
 -- ----------------------------
 -- Primary Key structure for table blade_user
 -- ----------------------------
 ALTER TABLE "blade_user" ADD CONSTRAINT "blade_user_pkey" PRIMARY KEY ("id");
 
+-- ----------------------------
+-- Indexes structure for table blade_user_dept
+-- ----------------------------
+CREATE INDEX "idx_user_dept_dept_id" ON "blade_user_dept" USING btree (
+  "dept_id" ASC NULLS LAST,
+  "user_id" ASC NULLS LAST
+);
+
 -- ----------------------------
 -- Primary Key structure for table blade_user_dept
 -- ----------------------------
@@ -0,0 +1,10 @@
+-- ----------------------------
+-- 租户编号索引，用于批量开通租户时的编号唯一性校验
+-- ----------------------------
+create index idx_tenant_tenant_id on blade_tenant (tenant_id);
+
+-- ----------------------------
+-- 用户列表游标分页及部门筛选索引
+-- ----------------------------
+create index idx_user_tenant_id on blade_user (tenant_id, is_deleted, id);
+create index idx_user_dept_dept_id on blade_user_dept (dept_id, user_id);